@@ -0,0 +1,86 @@
+package edu.eci.arsw.primefinder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.eci.arsw.primefinder.EngineType;
+import edu.eci.arsw.primefinder.ExecutionMode;
+import edu.eci.arsw.primefinder.PrimeFinderTask;
+import edu.eci.arsw.primefinder.PrimeOutput;
+import edu.eci.arsw.primefinder.PrimeSearchEngine;
+import edu.eci.arsw.primefinder.RangeScheduler;
+import edu.eci.arsw.primefinder.ThreadController;
+
+/**
+ * Wall time of a whole sieve search for every execution mode, from a few large chunks to many fine grained
+ * ones, against the original model of one dedicated thread per worker.
+ * On a JDK without virtual threads the VIRTUAL mode runs its task per chunk on a fork/join pool, as Main does.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    @Param({"THREADS", "POOL", "FORK_JOIN", "VIRTUAL"})
+    private ExecutionMode mode;
+
+    @Param({"4096", "131072"})
+    private int chunkSize;
+
+    @Param({"4"})
+    private int threads;
+
+    @Param({"30000000"})
+    private long maxValue;
+
+    private PrimeSearchEngine engine;
+    private ExecutionMode executor;
+
+    @Setup
+    public void setUp() {
+        engine = EngineType.SIEVE.create(maxValue);
+        executor = mode.isAvailable() ? mode : ExecutionMode.FORK_JOIN;
+    }
+
+    @Benchmark
+    public long search() throws InterruptedException {
+        ThreadController controller = new ThreadController();
+        RangeScheduler scheduler = new RangeScheduler(0, maxValue, chunkSize);
+        int taskCount = mode.getTaskCount(threads);
+        PrimeFinderTask[] tasks = new PrimeFinderTask[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            tasks[i] = new PrimeFinderTask(i + 1, scheduler, controller, engine, PrimeOutput.silent());
+            if (mode.isTaskPerChunk()) {
+                tasks[i].setMaxChunks(1);
+            }
+        }
+        if (mode.isTaskPerChunk()) {
+            executor.executePerChunk(tasks, threads);
+        } else {
+            executor.execute(tasks, threads);
+        }
+        long primes = 0;
+        for (PrimeFinderTask task : tasks) {
+            primes += task.getPrimesCount();
+        }
+        return primes;
+    }
+}
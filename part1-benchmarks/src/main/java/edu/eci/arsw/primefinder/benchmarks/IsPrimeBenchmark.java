@@ -0,0 +1,64 @@
+package edu.eci.arsw.primefinder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.eci.arsw.primefinder.MillerRabin;
+import edu.eci.arsw.primefinder.TrialDivisionEngine;
+
+/**
+ * Cost of a single primality test, for numbers around the given magnitude.
+ * Compares the trial division used by PrimeFinderThread with the deterministic Miller-Rabin test.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsPrimeBenchmark {
+
+    private static final int NUMBERS = 1024;
+
+    @Param({"1000000", "30000000", "2000000000"})
+    private long magnitude;
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS)
+    public int trialDivision() {
+        int primes = 0;
+        for (long n = magnitude; n < magnitude + NUMBERS; n++) {
+            if (TrialDivisionEngine.isPrime(n)) {
+                primes++;
+            }
+        }
+        return primes;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBERS)
+    public int millerRabin() {
+        int primes = 0;
+        for (long n = magnitude; n < magnitude + NUMBERS; n++) {
+            if (MillerRabin.isPrime(n)) {
+                primes++;
+            }
+        }
+        return primes;
+    }
+}
@@ -0,0 +1,47 @@
+package edu.eci.arsw.primefinder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.eci.arsw.primefinder.ThreadController;
+
+/**
+ * Cost of ThreadController.checkPausePoint() while no pause is requested,
+ * with a single worker and with several workers sharing the same controller.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PauseCheckpointBenchmark {
+
+    private final ThreadController controller = new ThreadController();
+
+    @Benchmark
+    @Threads(1)
+    public void singleWorker() throws InterruptedException {
+        controller.checkPausePoint();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void fourWorkers() throws InterruptedException {
+        controller.checkPausePoint();
+    }
+}
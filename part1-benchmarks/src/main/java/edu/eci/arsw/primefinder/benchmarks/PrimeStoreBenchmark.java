@@ -0,0 +1,95 @@
+package edu.eci.arsw.primefinder.benchmarks;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.eci.arsw.primefinder.BasePrimes;
+import edu.eci.arsw.primefinder.IntArrayPrimeStore;
+import edu.eci.arsw.primefinder.LongArrayPrimeStore;
+import edu.eci.arsw.primefinder.PrimeStore;
+import edu.eci.arsw.primefinder.SegmentedSieveEngine;
+import edu.eci.arsw.primefinder.ThreadController;
+
+/**
+ * Throughput of the result stores: appending primes, iterating them and answering range queries.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimeStoreBenchmark {
+
+    private static final int MAX_VALUE = 30000000;
+    private static final int QUERIES = 1024;
+
+    @Param({"int", "long"})
+    private String storeType;
+
+    private long[] primes;
+    private PrimeStore filled;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        PrimeStore all = new IntArrayPrimeStore();
+        new SegmentedSieveEngine(BasePrimes.forMaxValue(MAX_VALUE))
+                .search(0, MAX_VALUE, new ThreadController(), all::add);
+        primes = all.toArray();
+        filled = newStore();
+        for (long prime : primes) {
+            filled.add(prime);
+        }
+    }
+
+    private PrimeStore newStore() {
+        return "int".equals(storeType) ? new IntArrayPrimeStore() : new LongArrayPrimeStore();
+    }
+
+    @Benchmark
+    public PrimeStore add() {
+        PrimeStore store = newStore();
+        for (long prime : primes) {
+            store.add(prime);
+        }
+        return store;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        PrimitiveIterator.OfLong iterator = filled.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public long countInRange() {
+        long count = 0;
+        long step = MAX_VALUE / QUERIES;
+        for (int i = 0; i < QUERIES; i++) {
+            count += filled.countInRange(i * step, i * step + step / 2);
+        }
+        return count;
+    }
+}
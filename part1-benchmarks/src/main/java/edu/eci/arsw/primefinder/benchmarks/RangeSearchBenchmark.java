@@ -0,0 +1,72 @@
+package edu.eci.arsw.primefinder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.eci.arsw.primefinder.EngineType;
+import edu.eci.arsw.primefinder.PrimeFinderThread;
+import edu.eci.arsw.primefinder.PrimeOutput;
+import edu.eci.arsw.primefinder.PrimeSearchEngine;
+import edu.eci.arsw.primefinder.RangeScheduler;
+import edu.eci.arsw.primefinder.ThreadController;
+
+/**
+ * Wall time of a whole range search, the same way Main runs it but without console output,
+ * for every engine and several thread counts.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-22
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RangeSearchBenchmark {
+
+    @Param({"SIEVE", "MILLER_RABIN", "TRIAL"})
+    private EngineType engineType;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"3000000"})
+    private long maxValue;
+
+    private PrimeSearchEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = engineType.create(maxValue);
+    }
+
+    @Benchmark
+    public long search() throws InterruptedException {
+        ThreadController controller = new ThreadController();
+        RangeScheduler scheduler = new RangeScheduler(0, maxValue);
+        PrimeFinderThread[] workers = new PrimeFinderThread[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new PrimeFinderThread(i + 1, scheduler, controller, engine, PrimeOutput.silent());
+            workers[i].start();
+        }
+        long primes = 0;
+        for (PrimeFinderThread worker : workers) {
+            worker.join();
+            primes += worker.getPrimesCount();
+        }
+        return primes;
+    }
+}
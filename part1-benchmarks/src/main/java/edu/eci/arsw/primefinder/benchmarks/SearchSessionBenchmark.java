@@ -0,0 +1,124 @@
+package edu.eci.arsw.primefinder.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.eci.arsw.primefinder.CompositePrimeStore;
+import edu.eci.arsw.primefinder.IntArrayPrimeStore;
+import edu.eci.arsw.primefinder.MillerRabin;
+import edu.eci.arsw.primefinder.PrimeSearchSession;
+import edu.eci.arsw.primefinder.PrimeStore;
+
+/**
+ * Wall time of extending a finished search by a small interval with a PrimeSearchSession, against
+ * searching the whole extended range again with a new session.
+ * <p>
+ * Before measuring, the trial checks that a session extended in steps, one of them without any prime,
+ * holds exactly the primes of a single search, that {@code get} works across its empty part, and that
+ * CompositePrimeStore rejects parts and primes out of order.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-03
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SearchSessionBenchmark {
+
+    @Param({"30000000"})
+    private long searched;
+
+    @Param({"1000000"})
+    private long extension;
+
+    @Param({"4"})
+    private int threads;
+
+    private PrimeSearchSession session;
+
+    @Setup(Level.Trial)
+    public void verify() throws InterruptedException {
+        long[] expected = new PrimeSearchSession(0, threads).extendTo(searched + extension).toArray();
+
+        // The first step ends at a prime and the second one right before the next prime, so it finds none
+        long lastPrime = searched;
+        while (!MillerRabin.isPrime(lastPrime)) {
+            lastPrime++;
+        }
+        long gapEnd = lastPrime + 1;
+        while (!MillerRabin.isPrime(gapEnd + 1)) {
+            gapEnd++;
+        }
+        PrimeSearchSession stepped = new PrimeSearchSession(0, threads);
+        stepped.extendTo(lastPrime);
+        int beforeGap = stepped.getPrimes().size();
+        stepped.extendTo(gapEnd);
+        check(stepped.getPrimes().size() == beforeGap, "the step up to " + gapEnd + " found primes");
+        PrimeStore primes = stepped.extendTo(searched + extension);
+        check(Arrays.equals(primes.toArray(), expected), "a stepped session differs from a single search");
+        for (int index = Math.max(0, beforeGap - 2); index < beforeGap + 2; index++) {
+            check(primes.get(index) == expected[index], "get(" + index + ") is wrong across the empty part");
+        }
+
+        CompositePrimeStore composite = new CompositePrimeStore();
+        composite.append(new IntArrayPrimeStore());
+        composite.add(7);
+        checkRejected(composite, 5);
+        checkRejected(composite, 7);
+        check(composite.get(0) == 7 && composite.size() == 1, "a rejected prime changed the store");
+    }
+
+    @Setup(Level.Invocation)
+    public void searchFirst() throws InterruptedException {
+        session = new PrimeSearchSession(0, threads);
+        session.extendTo(searched);
+    }
+
+    @Benchmark
+    public int extend() throws InterruptedException {
+        return session.extendTo(searched + extension).size();
+    }
+
+    @Benchmark
+    public int searchAgain() throws InterruptedException {
+        return new PrimeSearchSession(0, threads).extendTo(searched + extension).size();
+    }
+
+    private static void checkRejected(CompositePrimeStore composite, long prime) {
+        PrimeStore part = new IntArrayPrimeStore();
+        part.add(prime);
+        try {
+            composite.append(part);
+        } catch (IllegalArgumentException expected) {
+            try {
+                composite.add(prime);
+            } catch (IllegalArgumentException alsoExpected) {
+                return;
+            }
+        }
+        throw new IllegalStateException("CompositePrimeStore accepted " + prime + " after " + composite.get(0));
+    }
+
+    private static void check(boolean condition, String failure) {
+        if (!condition) {
+            throw new IllegalStateException("PrimeSearchSession check failed: " + failure);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package edu.eci.arsw.primefinder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.eci.arsw.primefinder.BasePrimes;
+import edu.eci.arsw.primefinder.SieveKernel;
+import edu.eci.arsw.primefinder.ThreadController;
+import edu.eci.arsw.primefinder.WheelSieveCounter;
+
+/**
+ * Cost of the kernels of the count-only wheel sieve: pre-sieving and counting one segment,
+ * and counting the primes of a whole range, for the scalar and the Vector API kernels.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SieveKernelBenchmark {
+
+    private static final long LOW = 1000000000L / WheelSieveCounter.WHEEL;
+    private static final long RANGE_START = 1000000000L;
+
+    @Param({"scalar", "vector"})
+    private String kernelName;
+
+    @Param({"100000000"})
+    private long rangeLength;
+
+    private SieveKernel kernel;
+    private WheelSieveCounter counter;
+    private byte[] sieve;
+
+    @Setup
+    public void setUp() {
+        kernel = kernelName.equals("vector") ? SieveKernel.vectorIfAvailable() : SieveKernel.scalar();
+        if (!kernel.getName().startsWith(kernelName)) {
+            throw new IllegalStateException("Kernel '" + kernelName + "' is not available in this JVM");
+        }
+        counter = new WheelSieveCounter(BasePrimes.forMaxValue(RANGE_START + rangeLength), kernel);
+        sieve = new byte[WheelSieveCounter.DEFAULT_SEGMENT_BYTES];
+    }
+
+    @Benchmark
+    public byte[] presieve() {
+        kernel.presieve(sieve, LOW, sieve.length);
+        return sieve;
+    }
+
+    @Benchmark
+    public long countComposites() {
+        return kernel.countComposites(sieve, sieve.length);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    public long countRange() throws InterruptedException {
+        return counter.countPrimes(RANGE_START, RANGE_START + rangeLength, new ThreadController());
+    }
+}
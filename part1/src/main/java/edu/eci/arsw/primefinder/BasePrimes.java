@@ -0,0 +1,93 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * Immutable table with every prime number up to a limit, computed once with a
+ * classic Sieve of Eratosthenes. It is shared by all the workers of a segmented
+ * sieve, since the primes up to sqrt(MAX_VALUE) are enough to sieve any segment.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-05
+ */
+public final class BasePrimes {
+
+    private final int limit;
+    private final int[] primes;
+
+    private BasePrimes(int limit, int[] primes) {
+        this.limit = limit;
+        this.primes = primes;
+    }
+
+    /**
+     * Builds the table of base primes needed to sieve every number up to maxValue.
+     *
+     * @param maxValue the largest value that will be sieved
+     * @return a table with every prime up to sqrt(maxValue)
+     */
+    public static BasePrimes forMaxValue(long maxValue) {
+        long limit = (long) Math.sqrt((double) maxValue) + 1;
+        if (limit >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too large to sieve from base primes: " + maxValue);
+        }
+        return upTo((int) limit);
+    }
+
+    /**
+     * Builds the table with every prime number up to the given limit.
+     *
+     * @param limit the largest value to include in the table (inclusive)
+     * @return the table of primes
+     */
+    public static BasePrimes upTo(int limit) {
+        if (limit < 2) {
+            return new BasePrimes(limit, new int[0]);
+        }
+
+        boolean[] composite = new boolean[limit + 1];
+        int count = 0;
+        for (int i = 2; i <= limit; i++) {
+            if (!composite[i]) {
+                count++;
+                for (long j = (long) i * i; j <= limit; j += i) {
+                    composite[(int) j] = true;
+                }
+            }
+        }
+
+        int[] primes = new int[count];
+        int index = 0;
+        for (int i = 2; i <= limit; i++) {
+            if (!composite[i]) {
+                primes[index++] = i;
+            }
+        }
+        return new BasePrimes(limit, primes);
+    }
+
+    /**
+     * Returns the limit used to build this table.
+     * @return the largest value considered when building the table
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of primes in the table.
+     * @return the amount of base primes
+     */
+    public int size() {
+        return primes.length;
+    }
+
+    /**
+     * Returns the i-th base prime, starting at 0 for the prime 2.
+     *
+     * @param i the index of the prime
+     * @return the prime at the given index
+     */
+    public int get(int i) {
+        return primes[i];
+    }
+}
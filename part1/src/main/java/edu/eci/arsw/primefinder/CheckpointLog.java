@@ -0,0 +1,354 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the chunks completed by a search, used to resume it after a crash or restart.
+ * Each record holds a chunk index and its primes, delta and varint encoded, protected by a CRC32.
+ * Workers only encode their record and queue it; a dedicated writer thread appends the queued records
+ * and forces them to disk at most once every {@link #SYNC_INTERVAL_MS} milliseconds (group commit),
+ * so checkpointing costs a small fraction of the search time.
+ * <p>
+ * A torn record at the end of the file (from a crash while writing) fails its CRC check and is
+ * discarded by {@link #recover(Path)}, together with anything after it.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-26
+ */
+public class CheckpointLog implements ChunkListener, Closeable {
+
+    /**
+     * Maximum time between two forces of the log to disk.
+     */
+    public static final long SYNC_INTERVAL_MS = 200;
+
+    private static final long MAGIC = 0x5052494d45434b50L; // "PRIMECKP"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 36;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte[] END = new byte[0];
+    private static final int MAX_VARLONG_SIZE = 10;
+
+    private final FileChannel channel;
+    private final LinkedBlockingQueue<byte[]> pending = new LinkedBlockingQueue<byte[]>();
+    private final Thread writer;
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[64 * 1024]);
+    private volatile IOException failure;
+
+    private CheckpointLog(FileChannel channel) {
+        this.channel = channel;
+        this.writer = new Thread(this::drain, "checkpoint-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Creates a new log for the given search, replacing any previous content of the file.
+     *
+     * @param file the log file
+     * @param scheduler the scheduler of the search, whose range and chunk size are recorded
+     * @return the log, ready to be used as the chunk listener of the workers
+     * @throws IOException if the file cannot be written
+     */
+    public static CheckpointLog create(Path file, RangeScheduler scheduler) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putLong(MAGIC).putInt(VERSION).putLong(scheduler.getStartRange()).putLong(scheduler.getEndRange())
+                .putLong(scheduler.getChunkSize()).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+        return new CheckpointLog(channel);
+    }
+
+    /**
+     * Reopens an existing log to keep appending records after a {@link #recover(Path)}.
+     *
+     * @param file the log file
+     * @return the log, ready to be used as the chunk listener of the workers
+     * @throws IOException if the file cannot be opened
+     */
+    public static CheckpointLog append(Path file) throws IOException {
+        return new CheckpointLog(FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Reads a log, keeping every valid record and truncating any torn record at its end.
+     *
+     * @param file the log file
+     * @return the recovered state of the search
+     * @throws IOException if the file cannot be read or is not a checkpoint log
+     */
+    public static Recovered recover(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Records are streamed one at a time, so the log can be larger than the heap or than 2 GB
+            long size = channel.size();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            if (size < HEADER_SIZE || in.readLong() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a checkpoint log: " + file);
+            }
+            long startRange = in.readLong();
+            long endRange = in.readLong();
+            long chunkSize = in.readLong();
+            RangeScheduler layout = new RangeScheduler(startRange, endRange, chunkSize);
+
+            TreeMap<Long, long[]> chunks = new TreeMap<Long, long[]>();
+            CRC32 crc = new CRC32();
+            byte[] content = new byte[64 * 1024];
+            long validEnd = HEADER_SIZE;
+            while (size - validEnd >= RECORD_HEADER_SIZE) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length <= 0 || length > size - validEnd - RECORD_HEADER_SIZE) {
+                    break;
+                }
+                if (content.length < length) {
+                    content = new byte[Math.max(length, content.length * 2)];
+                }
+                in.readFully(content, 0, length);
+                crc.reset();
+                crc.update(content, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                ByteBuffer record = ByteBuffer.wrap(content, 0, length);
+                long index = record.getLong();
+                long[] primes = new long[record.getInt()];
+                long previous = layout.getChunk(index).getStart();
+                for (int i = 0; i < primes.length; i++) {
+                    previous += readVarLong(record);
+                    primes[i] = previous;
+                }
+                chunks.put(index, primes);
+                validEnd += RECORD_HEADER_SIZE + length;
+            }
+
+            if (validEnd < size) {
+                channel.truncate(validEnd);
+                channel.force(true);
+            }
+            return new Recovered(layout, chunks);
+        }
+    }
+
+    /**
+     * Encodes the primes of the completed chunk and queues the record for the writer thread.
+     * The record is built in a scratch array of the calling worker, so the only allocation per chunk
+     * is the exact-size copy handed to the writer.
+     */
+    @Override
+    public void chunkCompleted(RangeScheduler.Chunk chunk, PrimeStore primes, int firstPrime) {
+        int end = primes.size();
+        int count = end - firstPrime;
+        byte[] record = scratch.get();
+        int capacity = RECORD_HEADER_SIZE + 12 + count * MAX_VARLONG_SIZE;
+        if (record.length < capacity) {
+            record = new byte[Math.max(capacity, record.length * 2)];
+            scratch.set(record);
+        }
+        int position = putLong(record, RECORD_HEADER_SIZE, chunk.getIndex());
+        position = putInt(record, position, count);
+        position = encodeGaps(primes, firstPrime, end, chunk.getStart(), record, position);
+        int length = position - RECORD_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER_SIZE, length);
+        putInt(record, 0, length);
+        putInt(record, 4, (int) crc.getValue());
+        pending.add(Arrays.copyOf(record, position));
+    }
+
+    /**
+     * Writes the gaps between consecutive primes as varints, starting from the given previous value.
+     * Kept apart from the record framing so the loop over the primes is compiled on its own.
+     *
+     * @return the position after the last written byte
+     */
+    private static int encodeGaps(PrimeStore primes, int from, int to, long previous, byte[] out, int position) {
+        for (int i = from; i < to; i++) {
+            long prime = primes.get(i);
+            long gap = prime - previous;
+            previous = prime;
+            // Almost every gap fits in one byte
+            while ((gap & ~0x7FL) != 0) {
+                out[position++] = (byte) ((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            out[position++] = (byte) gap;
+        }
+        return position;
+    }
+
+    private static int putLong(byte[] out, int position, long value) {
+        position = putInt(out, position, (int) (value >>> 32));
+        return putInt(out, position, (int) value);
+    }
+
+    private static int putInt(byte[] out, int position, int value) {
+        out[position] = (byte) (value >>> 24);
+        out[position + 1] = (byte) (value >>> 16);
+        out[position + 2] = (byte) (value >>> 8);
+        out[position + 3] = (byte) value;
+        return position + 4;
+    }
+
+    /**
+     * Writes and forces every queued record, then closes the file.
+     *
+     * @throws IOException if any write failed
+     */
+    @Override
+    public void close() throws IOException {
+        pending.add(END);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writer thread loop: appends the queued records and forces them to disk in groups.
+     */
+    private void drain() {
+        List<byte[]> records = new ArrayList<byte[]>();
+        long lastSync = System.nanoTime();
+        boolean dirty = false;
+        try {
+            while (true) {
+                byte[] first = pending.poll(SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    records.add(first);
+                    pending.drainTo(records);
+                }
+                boolean end = false;
+                List<ByteBuffer> buffers = new ArrayList<ByteBuffer>(records.size());
+                for (byte[] record : records) {
+                    if (record == END) {
+                        end = true;
+                    } else {
+                        buffers.add(ByteBuffer.wrap(record));
+                    }
+                }
+                records.clear();
+                if (!buffers.isEmpty()) {
+                    // One gathering write for every record queued since the last round
+                    ByteBuffer[] batch = buffers.toArray(new ByteBuffer[0]);
+                    while (batch[batch.length - 1].hasRemaining()) {
+                        channel.write(batch);
+                    }
+                    dirty = true;
+                }
+                long now = System.nanoTime();
+                if (dirty && (end || now - lastSync >= TimeUnit.MILLISECONDS.toNanos(SYNC_INTERVAL_MS))) {
+                    channel.force(false);
+                    lastSync = now;
+                    dirty = false;
+                }
+                if (end) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * State of a search recovered from its checkpoint log.
+     */
+    public static final class Recovered {
+
+        private final RangeScheduler layout;
+        private final TreeMap<Long, long[]> chunks;
+
+        private Recovered(RangeScheduler layout, TreeMap<Long, long[]> chunks) {
+            this.layout = layout;
+            this.chunks = chunks;
+        }
+
+        public long getStartRange() {
+            return layout.getStartRange();
+        }
+
+        public long getEndRange() {
+            return layout.getEndRange();
+        }
+
+        public long getChunkSize() {
+            return layout.getChunkSize();
+        }
+
+        /**
+         * Returns the number of chunks recorded as completed.
+         * @return the amount of completed chunks
+         */
+        public int getCompletedChunkCount() {
+            return chunks.size();
+        }
+
+        /**
+         * Returns the indexes of the chunks that still have to be searched.
+         * @return the pending chunk indexes, in ascending order
+         */
+        public long[] getPendingChunks() {
+            long[] pendingChunks = new long[(int) (layout.getChunkCount() - chunks.size())];
+            int next = 0;
+            for (long index = 0; index < layout.getChunkCount(); index++) {
+                if (!chunks.containsKey(index)) {
+                    pendingChunks[next++] = index;
+                }
+            }
+            return pendingChunks;
+        }
+
+        /**
+         * Returns the primes of the completed chunks.
+         * @return a store with the recovered primes, in ascending order
+         */
+        public PrimeStore getPrimes() {
+            PrimeStore store = PrimeStore.forMaxValue(layout.getEndRange());
+            for (long[] primes : chunks.values()) {
+                for (long prime : primes) {
+                    store.add(prime);
+                }
+            }
+            return store;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coordinator that spreads a search across several worker processes ({@link ChunkWorker}), each with its
+ * own heap and garbage collector, over localhost sockets.
+ * <p>
+ * Workers lease chunks and report the amount of primes they found in each one. A lease belongs to the
+ * connection of the worker that took it, which may hold several, and expires after a timeout: if the
+ * worker dies, its connection is closed by the operating system, and if a lease expires, the coordinator
+ * closes the connection of the hung worker. Either way every chunk the connection held goes back to the
+ * queue, to be leased to another worker. A result for a chunk the connection does not hold is rejected,
+ * and a chunk reported twice is only counted once.
+ * <p>
+ * Protocol (one line per message): on connection the coordinator sends {@code RANGE end engine countOnly},
+ * then the worker repeatedly sends {@code LEASE} and receives {@code CHUNK index start end},
+ * {@code WAIT} (every remaining chunk is leased, ask again later) or {@code DONE}, and sends
+ * {@code RESULT index count} after each chunk.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-30
+ */
+public class ChunkCoordinator implements Closeable {
+
+    /**
+     * Default port of the coordinator.
+     */
+    public static final int DEFAULT_PORT = 7920;
+
+    /**
+     * Default size of the chunks leased to the workers.
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 1L << 24;
+
+    /**
+     * Default time a worker has to report a leased chunk, in milliseconds.
+     */
+    public static final int DEFAULT_LEASE_TIMEOUT_MS = 60000;
+
+    private static final int SEPARATORS_NUMBER = 65;
+
+    private final RangeScheduler scheduler;
+    private final String workerConfiguration;
+    private final ServerSocket serverSocket;
+    private final Queue<RangeScheduler.Chunk> reassigned = new ConcurrentLinkedQueue<RangeScheduler.Chunk>();
+    private final Map<Long, Long> results = new ConcurrentHashMap<Long, Long>();
+    private final AtomicLong totalPrimes = new AtomicLong();
+    private final AtomicInteger reassignments = new AtomicInteger();
+    private final AtomicLong remainingChunks;
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final int leaseTimeoutMillis;
+
+    /**
+     * Creates a coordinator for the given search, listening on the loopback interface.
+     *
+     * @param scheduler the chunks to lease to the workers
+     * @param engineType the engine the workers search with
+     * @param countOnly whether the workers count primes with the wheel sieve instead
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public ChunkCoordinator(RangeScheduler scheduler, EngineType engineType, boolean countOnly, int port)
+            throws IOException {
+        this(scheduler, engineType, countOnly, port, DEFAULT_LEASE_TIMEOUT_MS);
+    }
+
+    /**
+     * Creates a coordinator for the given search, listening on the loopback interface.
+     *
+     * @param scheduler the chunks to lease to the workers
+     * @param engineType the engine the workers search with
+     * @param countOnly whether the workers count primes with the wheel sieve instead
+     * @param port the port to listen on, or 0 for any free port
+     * @param leaseTimeoutMillis time a worker has to report a chunk before it is considered hung
+     * @throws IOException if the port cannot be bound
+     */
+    public ChunkCoordinator(RangeScheduler scheduler, EngineType engineType, boolean countOnly, int port,
+                            int leaseTimeoutMillis) throws IOException {
+        if (leaseTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Lease timeout must be positive: " + leaseTimeoutMillis);
+        }
+        this.scheduler = scheduler;
+        this.workerConfiguration = "RANGE " + scheduler.getEndRange() + " " + engineType.name() + " " + countOnly;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.remainingChunks = new AtomicLong(scheduler.getChunkCount());
+        if (scheduler.getChunkCount() == 0) {
+            finished.countDown();
+        }
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Main method that coordinates a search, optionally spawning the worker processes itself.
+     *
+     * @param args command line arguments, optionally {@code --from=N}, {@code --to=N}, {@code --chunk-size=N},
+     *             {@code --engine=NAME}, {@code --count-only}, {@code --port=N}, {@code --spawn=N}
+     *             (worker processes to start), {@code --worker-threads=N} (threads per worker) and
+     *             {@code --lease-timeout=MS} (time a worker has to report a chunk)
+     * @throws Exception if the search cannot be coordinated
+     */
+    public static void main(String[] args) throws Exception {
+        long from = 0;
+        long to = 1000000000L;
+        long chunkSize = DEFAULT_CHUNK_SIZE;
+        EngineType engineType = null;
+        boolean countOnly = false;
+        int port = DEFAULT_PORT;
+        int spawn = 0;
+        int workerThreads = 1;
+        int leaseTimeoutMillis = DEFAULT_LEASE_TIMEOUT_MS;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--from=")) {
+                from = Long.parseLong(value);
+            } else if (arg.startsWith("--to=")) {
+                to = Long.parseLong(value);
+            } else if (arg.startsWith("--chunk-size=")) {
+                chunkSize = Long.parseLong(value);
+            } else if (arg.startsWith("--engine=")) {
+                engineType = EngineType.fromName(value);
+            } else if (arg.equals("--count-only")) {
+                countOnly = true;
+            } else if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(value);
+            } else if (arg.startsWith("--spawn=")) {
+                spawn = Integer.parseInt(value);
+            } else if (arg.startsWith("--worker-threads=")) {
+                workerThreads = Integer.parseInt(value);
+            } else if (arg.startsWith("--lease-timeout=")) {
+                leaseTimeoutMillis = Integer.parseInt(value);
+            } else {
+                System.err.println("Unknown argument: " + arg);
+                return;
+            }
+        }
+        if (engineType == null) {
+            engineType = EngineType.defaultFor(to);
+        }
+
+        RangeScheduler scheduler = new RangeScheduler(from, to, chunkSize);
+        try (ChunkCoordinator coordinator = new ChunkCoordinator(scheduler, engineType, countOnly, port,
+                leaseTimeoutMillis)) {
+            System.out.println("=".repeat(SEPARATORS_NUMBER));
+            System.out.println("Coordinating search from " + from + " to " + to + " in " + scheduler.getChunkCount()
+                    + " chunks of " + chunkSize + " numbers on port " + coordinator.getPort());
+            System.out.println("=".repeat(SEPARATORS_NUMBER));
+
+            long startTime = System.currentTimeMillis();
+            Thread acceptor = new Thread(coordinator::serve, "coordinator-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+            List<Process> workers = spawnWorkers(spawn, coordinator.getPort(), workerThreads);
+
+            long total = coordinator.awaitCompletion();
+            long executionTime = System.currentTimeMillis() - startTime;
+            for (Process worker : workers) {
+                worker.waitFor();
+            }
+
+            System.out.println("=".repeat(SEPARATORS_NUMBER));
+            System.out.println("✅ DISTRIBUTED SEARCH COMPLETED");
+            System.out.println("Total prime numbers found: " + total);
+            System.out.println("Execution time: " + executionTime + " milliseconds");
+            System.out.println("Chunks reassigned from dead or hung workers: " + coordinator.getReassignments());
+            System.out.println("=".repeat(SEPARATORS_NUMBER));
+        }
+    }
+
+    /**
+     * Starts worker processes with the same Java runtime and class path as this process.
+     *
+     * @param count amount of worker processes
+     * @param port port of the coordinator
+     * @param threads search threads of each worker
+     * @return the started processes
+     * @throws IOException if a process cannot be started
+     */
+    static List<Process> spawnWorkers(int count, int port, int threads) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<Process> workers = new ArrayList<Process>();
+        for (int i = 0; i < count; i++) {
+            ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    ChunkWorker.class.getName(), "--port=" + port, "--threads=" + threads);
+            builder.inheritIO();
+            workers.add(builder.start());
+        }
+        return workers;
+    }
+
+    /**
+     * Accepts workers until the coordinator is closed, serving each one on its own thread.
+     */
+    public void serve() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread connection = new Thread(() -> handle(socket), "coordinator-worker-" + socket.getPort());
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Error accepting worker: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until every chunk has been reported.
+     *
+     * @return the total amount of primes found
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public long awaitCompletion() throws InterruptedException {
+        finished.await();
+        return totalPrimes.get();
+    }
+
+    /**
+     * Returns the port the coordinator is listening on.
+     * @return the local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns how many leases were taken back from workers that died or let them expire.
+     * @return the amount of reassigned chunks
+     */
+    public int getReassignments() {
+        return reassignments.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    /**
+     * Serves the lease requests of one worker, taking back its leases if the connection is lost or
+     * one of them expires. While the worker holds leases, reads time out at the earliest lease deadline.
+     */
+    private void handle(Socket socket) {
+        // Leases of this connection by chunk index, in lease order, so the first one expires first
+        Map<Long, Lease> leases = new LinkedHashMap<Long, Lease>();
+        try (Socket worker = socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(worker.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(worker.getOutputStream(), true)) {
+            out.println(workerConfiguration);
+            while (true) {
+                worker.setSoTimeout(leases.isEmpty() ? 0 : (int) Math.max(1,
+                        leases.values().iterator().next().deadline - System.currentTimeMillis()));
+                String line;
+                try {
+                    line = in.readLine();
+                } catch (SocketTimeoutException e) {
+                    System.out.println("Worker on port " + socket.getPort() + " did not report chunk "
+                            + leases.keySet().iterator().next() + " within " + leaseTimeoutMillis + " ms");
+                    break;
+                }
+                if (line == null) {
+                    break;
+                }
+                String[] message = line.split(" ");
+                if (message[0].equals("LEASE")) {
+                    RangeScheduler.Chunk chunk = nextChunk();
+                    if (chunk != null) {
+                        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+                        leases.put(chunk.getIndex(), new Lease(chunk, deadline));
+                        out.println("CHUNK " + chunk.getIndex() + " " + chunk.getStart() + " " + chunk.getEnd());
+                    } else {
+                        out.println(remainingChunks.get() == 0 ? "DONE" : "WAIT");
+                    }
+                } else if (message[0].equals("RESULT")) {
+                    long index = Long.parseLong(message[1]);
+                    if (leases.remove(index) != null) {
+                        complete(index, Long.parseLong(message[2]));
+                    } else {
+                        System.err.println("Rejected result of chunk " + index + " not leased to worker on port "
+                                + socket.getPort());
+                    }
+                } else {
+                    System.err.println("Unexpected message from worker: " + line);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // The worker died or sent garbage; its leases are taken back below
+        } finally {
+            for (Lease lease : leases.values()) {
+                if (!results.containsKey(lease.chunk.getIndex())) {
+                    reassigned.add(lease.chunk);
+                    reassignments.incrementAndGet();
+                    System.out.println("Worker on port " + socket.getPort() + " lost, reassigning chunk "
+                            + lease.chunk.getIndex());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a chunk taken back from a dead worker, or else the next chunk never leased, or null.
+     */
+    private RangeScheduler.Chunk nextChunk() {
+        RangeScheduler.Chunk chunk = reassigned.poll();
+        return chunk != null ? chunk : scheduler.nextChunk();
+    }
+
+    /**
+     * Records the result of a chunk, ignoring duplicates of a chunk that was reassigned but still finished.
+     */
+    private void complete(long index, long count) {
+        if (results.putIfAbsent(index, count) == null) {
+            totalPrimes.addAndGet(count);
+            if (remainingChunks.decrementAndGet() == 0) {
+                finished.countDown();
+            }
+        }
+    }
+
+    /**
+     * A chunk leased to a worker and the time by which it must be reported.
+     */
+    private static final class Lease {
+
+        private final RangeScheduler.Chunk chunk;
+        private final long deadline;
+
+        private Lease(RangeScheduler.Chunk chunk, long deadline) {
+            this.chunk = chunk;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * Callback notified by a PrimeFinderTask each time it finishes searching a chunk.
+ * It is called from the worker thread, so implementations must be thread safe.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-18
+ */
+public interface ChunkListener {
+
+    /**
+     * Called after a chunk has been completely searched.
+     *
+     * @param chunk the completed chunk
+     * @param primes the store of the worker that searched it
+     * @param firstPrime position in the store of the first prime of this chunk; the primes of the chunk
+     *                   are those between this position (inclusive) and the store size (exclusive)
+     */
+    void chunkCompleted(RangeScheduler.Chunk chunk, PrimeStore primes, int firstPrime);
+}
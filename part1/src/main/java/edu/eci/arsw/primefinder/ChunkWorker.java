@@ -0,0 +1,137 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Worker process of a distributed search: leases chunks from a {@link ChunkCoordinator}, searches each one
+ * with its own {@link PrimeFinderThread}s, and reports back the amount of primes found. If a search thread
+ * fails, the worker stops without reporting the chunk, so its lease is dropped and the chunk reassigned.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-30
+ */
+public class ChunkWorker {
+
+    private static final long WAIT_MS = 100;
+
+    private final int threadCount;
+    private PrimeSearchEngine engine;
+    private WheelSieveCounter counter;
+
+    /**
+     * Creates a worker that searches each chunk with the given amount of threads.
+     *
+     * @param threadCount amount of search threads
+     */
+    public ChunkWorker(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Main method that runs a worker until the coordinator has no chunks left.
+     *
+     * @param args command line arguments, optionally {@code --port=N} and {@code --threads=N}
+     * @throws Exception if the coordinator cannot be reached or a search fails
+     */
+    public static void main(String[] args) throws Exception {
+        int port = ChunkCoordinator.DEFAULT_PORT;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(value);
+            } else if (arg.startsWith("--threads=")) {
+                threadCount = Integer.parseInt(value);
+            } else {
+                System.err.println("Unknown argument: " + arg);
+                return;
+            }
+        }
+        new ChunkWorker(threadCount).run(port);
+    }
+
+    /**
+     * Connects to the coordinator and processes chunks until it answers that the search is done.
+     *
+     * @param port port of the coordinator
+     * @throws IOException if the connection fails
+     * @throws InterruptedException if interrupted while searching
+     * @throws IllegalStateException if a search thread fails; the chunk being searched is not reported
+     */
+    public void run(int port) throws IOException, InterruptedException {
+        String name = ManagementFactory.getRuntimeMXBean().getName();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true)) {
+            configure(in.readLine().split(" "));
+            int chunks = 0;
+            long primes = 0;
+            while (true) {
+                out.println("LEASE");
+                String line;
+                try {
+                    line = in.readLine();
+                } catch (IOException e) {
+                    // The coordinator exits once it has every result, which may reset the connection
+                    line = null;
+                }
+                String[] answer = line == null ? new String[] {"DONE"} : line.split(" ");
+                if (answer[0].equals("DONE")) {
+                    // A closed connection means the coordinator already has every result
+                    break;
+                } else if (answer[0].equals("WAIT")) {
+                    Thread.sleep(WAIT_MS);
+                } else {
+                    long count = search(Long.parseLong(answer[2]), Long.parseLong(answer[3]));
+                    out.println("RESULT " + answer[1] + " " + count);
+                    chunks++;
+                    primes += count;
+                }
+            }
+            System.out.println("Worker " + name + " searched " + chunks + " chunks and found " + primes + " primes");
+        }
+    }
+
+    /**
+     * Builds the engine or counter described by the {@code RANGE end engine countOnly} message.
+     */
+    private void configure(String[] range) {
+        long maxValue = Long.parseLong(range[1]);
+        if (Boolean.parseBoolean(range[3])) {
+            counter = new WheelSieveCounter(BasePrimes.forMaxValue(maxValue));
+        } else {
+            engine = EngineType.valueOf(range[2]).create(maxValue);
+        }
+    }
+
+    /**
+     * Searches a leased chunk with this worker's threads, sharing a scheduler over the chunk.
+     *
+     * @throws IllegalStateException if a thread fails, so a partial count is never reported
+     */
+    private long search(long start, long end) throws InterruptedException {
+        ThreadController controller = new ThreadController();
+        RangeScheduler scheduler = new RangeScheduler(start, end,
+                counter != null ? counter.getSegmentSpan() : RangeScheduler.DEFAULT_CHUNK_SIZE);
+        PrimeFinderTask[] tasks = new PrimeFinderTask[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            tasks[i] = counter != null ? new PrimeFinderTask(i + 1, scheduler, controller, counter)
+                    : new PrimeFinderTask(i + 1, scheduler, controller, engine, PrimeOutput.silent());
+        }
+        ExecutionMode.THREADS.execute(tasks, threadCount);
+        long count = 0;
+        for (PrimeFinderTask task : tasks) {
+            count += task.getPrimesCount();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,164 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * PrimeStore that chains other stores holding consecutive, ascending ranges of primes, without copying them.
+ * Appending a part only replaces the small array of parts, so readers on other threads always see
+ * a consistent list of parts; the values of each part are read in place. Parts may be empty, and both
+ * appended parts and added primes are checked to come after the primes already stored.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-03
+ */
+public class CompositePrimeStore implements PrimeStore {
+
+    private volatile Parts parts = new Parts(new PrimeStore[0], new int[0]);
+
+    /**
+     * Appends a store whose primes are all greater than the ones already stored. The store is adopted,
+     * not copied, and the previous last part does not receive any other prime.
+     *
+     * @param part the store to append
+     * @throws IllegalArgumentException if the store does not come after the stored primes, or if the
+     *         composite would hold more primes than an int can index
+     */
+    public void append(PrimeStore part) {
+        Parts current = parts;
+        int size = size();
+        if (size > 0 && part.size() > 0 && part.get(0) <= get(size - 1)) {
+            throw new IllegalArgumentException("Part starting at " + part.get(0) + " does not come after " + get(size - 1));
+        }
+        if ((long) size + part.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Appending " + part.size() + " primes to " + size + " overflows the store");
+        }
+        PrimeStore[] stores = Arrays.copyOf(current.stores, current.stores.length + 1);
+        int[] offsets = Arrays.copyOf(current.offsets, current.offsets.length + 1);
+        stores[stores.length - 1] = part;
+        offsets[offsets.length - 1] = size;
+        parts = new Parts(stores, offsets);
+    }
+
+    /**
+     * Returns the amount of chained stores.
+     * @return the number of parts
+     */
+    public int getPartCount() {
+        return parts.stores.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The prime is added to the last part, or to a new part when it does not fit in the last one.
+     *
+     * @throws IllegalArgumentException if the prime does not come after the stored primes
+     */
+    @Override
+    public void add(long prime) {
+        int size = size();
+        if (size > 0 && prime <= get(size - 1)) {
+            throw new IllegalArgumentException("Prime " + prime + " does not come after " + get(size - 1));
+        }
+        PrimeStore[] stores = parts.stores;
+        PrimeStore last = stores.length == 0 ? null : stores[stores.length - 1];
+        if (last == null || (prime > Integer.MAX_VALUE && last instanceof IntArrayPrimeStore)) {
+            last = PrimeStore.forMaxValue(prime);
+            append(last);
+        }
+        last.add(prime);
+    }
+
+    @Override
+    public int size() {
+        Parts current = parts;
+        int count = current.stores.length;
+        return count == 0 ? 0 : current.offsets[count - 1] + current.stores[count - 1].size();
+    }
+
+    @Override
+    public long get(int index) {
+        Parts current = parts;
+        int part = Arrays.binarySearch(current.offsets, index);
+        if (part < 0) {
+            part = -part - 2;
+        } else {
+            // Skip empty parts sharing the same offset
+            while (part + 1 < current.offsets.length && current.offsets[part + 1] == index) {
+                part++;
+            }
+        }
+        if (index < 0 || part < 0 || index >= current.offsets[part] + current.stores[part].size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        return current.stores[part].get(index - current.offsets[part]);
+    }
+
+    @Override
+    public int countInRange(long from, long to) {
+        int count = 0;
+        for (PrimeStore store : parts.stores) {
+            count += store.countInRange(from, to);
+        }
+        return count;
+    }
+
+    @Override
+    public void forEach(LongConsumer consumer) {
+        for (PrimeStore store : parts.stores) {
+            store.forEach(consumer);
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        final PrimeStore[] stores = parts.stores;
+        return new PrimitiveIterator.OfLong() {
+            private int part = 0;
+            private PrimitiveIterator.OfLong current = stores.length == 0 ? null : stores[0].iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (current != null && !current.hasNext()) {
+                    part++;
+                    current = part < stores.length ? stores[part].iterator() : null;
+                }
+                return current != null;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.nextLong();
+            }
+        };
+    }
+
+    @Override
+    public long[] toArray() {
+        long[] copy = new long[size()];
+        int index = 0;
+        for (PrimitiveIterator.OfLong iterator = iterator(); iterator.hasNext() && index < copy.length; ) {
+            copy[index++] = iterator.nextLong();
+        }
+        return index == copy.length ? copy : Arrays.copyOf(copy, index);
+    }
+
+    /**
+     * Immutable list of parts with the position of the first prime of each one.
+     */
+    private static final class Parts {
+        private final PrimeStore[] stores;
+        private final int[] offsets;
+
+        Parts(PrimeStore[] stores, int[] offsets) {
+            this.stores = stores;
+            this.offsets = offsets;
+        }
+    }
+}
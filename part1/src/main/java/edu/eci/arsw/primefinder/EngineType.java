@@ -0,0 +1,72 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * Prime search engines that can be selected from the command line.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-05
+ */
+public enum EngineType {
+
+    /**
+     * Original algorithm: trial division of every number of the range.
+     */
+    TRIAL,
+
+    /**
+     * Cache sized segmented Sieve of Eratosthenes.
+     */
+    SIEVE,
+
+    /**
+     * Small prime pre-sieve plus deterministic Miller-Rabin, for windows of large 64-bit numbers.
+     */
+    MILLER_RABIN;
+
+    /**
+     * Creates the engine to search primes up to the given value.
+     *
+     * @param maxValue the largest value that will be searched
+     * @return a new engine instance that can be shared by every worker
+     */
+    public PrimeSearchEngine create(long maxValue) {
+        switch (this) {
+            case TRIAL:
+                return new TrialDivisionEngine();
+            case SIEVE:
+                return new SegmentedSieveEngine(BasePrimes.forMaxValue(maxValue));
+            case MILLER_RABIN:
+                return new MillerRabinEngine();
+            default:
+                throw new IllegalStateException("Unknown engine: " + this);
+        }
+    }
+
+    /**
+     * Returns the engine that fits best a search up to the given value: the sieve while its table of
+     * base primes stays small, Miller-Rabin beyond that.
+     *
+     * @param maxValue the largest value that will be searched
+     * @return the default engine type for the range
+     */
+    public static EngineType defaultFor(long maxValue) {
+        return maxValue <= Integer.MAX_VALUE ? SIEVE : MILLER_RABIN;
+    }
+
+    /**
+     * Parses an engine name given on the command line (case insensitive).
+     *
+     * @param name the engine name, for example "sieve", "trial" or "miller-rabin"
+     * @return the matching engine type
+     * @throws IllegalArgumentException if the name does not match any engine
+     */
+    public static EngineType fromName(String name) {
+        for (EngineType type : values()) {
+            if (type.name().equalsIgnoreCase(name.replace('-', '_'))) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown engine '" + name + "', expected one of: trial, sieve, miller-rabin");
+    }
+}
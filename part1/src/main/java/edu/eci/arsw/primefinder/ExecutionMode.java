@@ -0,0 +1,243 @@
+package edu.eci.arsw.primefinder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Ways in which the {@link PrimeFinderTask}s of a search are run.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-04
+ */
+public enum ExecutionMode {
+
+    /**
+     * One dedicated {@link PrimeFinderThread} per worker, the original model.
+     */
+    THREADS,
+
+    /**
+     * Workers submitted to a fixed pool of platform threads.
+     */
+    POOL,
+
+    /**
+     * Workers submitted to a {@link ForkJoinPool}.
+     */
+    FORK_JOIN,
+
+    /**
+     * One task per chunk, each on its own virtual thread. Needs a JDK with virtual threads (21 or later).
+     */
+    VIRTUAL;
+
+    /**
+     * Chunks a task per chunk search keeps in flight for each thread of parallelism.
+     */
+    public static final int CHUNKS_IN_FLIGHT_PER_THREAD = 4;
+
+    private static final Method VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+    /**
+     * Returns whether this mode runs one task per chunk instead of one per worker.
+     * @return true for the virtual thread mode
+     */
+    public boolean isTaskPerChunk() {
+        return this == VIRTUAL;
+    }
+
+    /**
+     * Returns whether this mode can run on the current JVM.
+     * @return false for the virtual thread mode on a JDK without virtual threads
+     */
+    public boolean isAvailable() {
+        return this != VIRTUAL || VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Returns how many tasks a search runs with: one per thread, or the chunks kept in flight when
+     * there is a task per chunk.
+     *
+     * @param parallelism amount of threads of the search
+     * @return the amount of tasks to create
+     */
+    public int getTaskCount(int parallelism) {
+        return isTaskPerChunk() ? parallelism * CHUNKS_IN_FLIGHT_PER_THREAD : parallelism;
+    }
+
+    /**
+     * Runs every task and waits until all of them finish. With {@link #THREADS} each task gets its own
+     * thread; otherwise the tasks are submitted to an executor that is shut down afterwards.
+     * A failed task does not stop the others: once all of them finish, its failure is thrown.
+     *
+     * @param tasks the tasks to run
+     * @param parallelism amount of threads of the pools; ignored by the thread and virtual thread modes
+     * @throws InterruptedException if interrupted while waiting, in which case the tasks are interrupted too
+     * @throws IllegalStateException if a task fails or is interrupted, or if this mode is not available
+     */
+    public void execute(PrimeFinderTask[] tasks, int parallelism) throws InterruptedException {
+        if (this == THREADS) {
+            PrimeFinderThread[] threads = new PrimeFinderThread[tasks.length];
+            for (int i = 0; i < tasks.length; i++) {
+                threads[i] = new PrimeFinderThread(tasks[i]);
+                // The failure is recorded by the task and thrown below, like in the pooled modes
+                threads[i].setUncaughtExceptionHandler((thread, failure) -> { });
+                threads[i].start();
+            }
+            try {
+                for (PrimeFinderThread thread : threads) {
+                    thread.join();
+                }
+            } catch (InterruptedException e) {
+                for (PrimeFinderThread thread : threads) {
+                    thread.interrupt();
+                }
+                throw e;
+            }
+            checkFailures(tasks);
+            return;
+        }
+
+        ExecutorService executor = newExecutor(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>(tasks.length);
+            for (PrimeFinderTask task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // Recorded by the task, thrown once every task has finished
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        checkFailures(tasks);
+    }
+
+    /**
+     * Runs a search with a task per chunk on the executor of this mode. Each run of a task claims at most
+     * one chunk on its own executor task, and the tasks are run again and again until the range is
+     * exhausted, so each task accumulates the primes and metrics of the chunks it ran. A task is only
+     * submitted again once its previous run returns, which bounds the chunks in flight, and their memory,
+     * by the amount of tasks instead of the amount of chunks.
+     *
+     * @param tasks the tasks to run, each limited to one chunk per run
+     * @param parallelism amount of threads of the pools; ignored by the virtual thread mode
+     * @throws InterruptedException if interrupted while waiting, in which case the tasks are interrupted too
+     * @throws IllegalStateException if a task fails or is interrupted, or if this mode has no executor
+     */
+    public void executePerChunk(PrimeFinderTask[] tasks, int parallelism) throws InterruptedException {
+        ExecutorService executor = newExecutor(parallelism);
+        BlockingQueue<PrimeFinderTask> idle = new ArrayBlockingQueue<PrimeFinderTask>(tasks.length);
+        Collections.addAll(idle, tasks);
+        try {
+            // A task that found no chunk means the range is exhausted; one that failed stops the search
+            PrimeFinderTask task;
+            while (!(task = idle.take()).isFinished()) {
+                final PrimeFinderTask next = task;
+                executor.execute(() -> {
+                    try {
+                        next.run();
+                    } catch (RuntimeException | Error e) {
+                        // Recorded by the task, thrown once every chunk in flight has finished
+                    } finally {
+                        idle.add(next);
+                    }
+                });
+            }
+            // Wait for the chunks still in flight
+            for (int running = tasks.length - 1; running > 0; running--) {
+                idle.take();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        checkFailures(tasks);
+    }
+
+    /**
+     * Throws the failure of the first failed task, with the failures of the others as suppressed ones.
+     */
+    private static void checkFailures(PrimeFinderTask[] tasks) {
+        IllegalStateException failed = null;
+        for (PrimeFinderTask task : tasks) {
+            Throwable failure = task.getFailure();
+            if (failure == null) {
+                continue;
+            }
+            if (failed == null) {
+                failed = new IllegalStateException("Prime finder task " + task.getTaskId() + " failed: " + failure,
+                        failure);
+            } else {
+                failed.addSuppressed(failure);
+            }
+        }
+        if (failed != null) {
+            throw failed;
+        }
+    }
+
+    /**
+     * Creates the executor of a pooled mode.
+     */
+    private ExecutorService newExecutor(int parallelism) {
+        switch (this) {
+            case POOL:
+                return Executors.newFixedThreadPool(parallelism, PrimeServer.namedThreads("prime-pool-"));
+            case FORK_JOIN:
+                return new ForkJoinPool(parallelism);
+            case VIRTUAL:
+                if (VIRTUAL_EXECUTOR == null) {
+                    throw new IllegalStateException("Virtual threads are not available in Java "
+                            + System.getProperty("java.specification.version"));
+                }
+                try {
+                    return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Could not create a virtual thread executor", e);
+                }
+            default:
+                throw new IllegalStateException("Mode without executor: " + this);
+        }
+    }
+
+    /**
+     * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()}, which only exists since Java 21.
+     */
+    private static Method findVirtualExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses an execution mode given on the command line (case insensitive).
+     *
+     * @param name the mode name, for example "threads", "pool", "fork-join" or "virtual"
+     * @return the matching execution mode
+     * @throws IllegalArgumentException if the name does not match any mode
+     */
+    public static ExecutionMode fromName(String name) {
+        for (ExecutionMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name.replace('-', '_'))) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown executor '" + name + "', expected one of: threads, pool, fork-join, virtual");
+    }
+}
@@ -0,0 +1,133 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * PrimeStore backed by a growable int array, for primes that fit in an int.
+ * Each prime takes 4 bytes and adding one does not allocate, except for the occasional
+ * growth of the array, which doubles its capacity.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-10
+ */
+public class IntArrayPrimeStore implements PrimeStore {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * Creates an empty store with the default initial capacity.
+     */
+    public IntArrayPrimeStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store able to hold the given amount of primes before growing.
+     *
+     * @param initialCapacity the initial capacity
+     */
+    public IntArrayPrimeStore(int initialCapacity) {
+        values = new int[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the prime does not fit in an int
+     */
+    @Override
+    public void add(long prime) {
+        if (prime > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value does not fit in an int store: " + prime);
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = (int) prime;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return values[index];
+    }
+
+    @Override
+    public int countInRange(long from, long to) {
+        if (to < from) {
+            return 0;
+        }
+        return upperBound(to) - upperBound(from - 1);
+    }
+
+    /**
+     * Returns the position of the first stored value strictly greater than the given one.
+     */
+    private int upperBound(long value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void forEach(LongConsumer consumer) {
+        int[] snapshot = values;
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            consumer.accept(snapshot[i]);
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        final int[] snapshot = values;
+        final int count = size;
+        return new PrimitiveIterator.OfLong() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public long nextLong() {
+                if (next >= count) {
+                    throw new NoSuchElementException();
+                }
+                return snapshot[next++];
+            }
+        };
+    }
+
+    @Override
+    public long[] toArray() {
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = values[i];
+        }
+        return copy;
+    }
+}
@@ -1,13 +1,19 @@
 package edu.eci.arsw.primefinder;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Timer;
 import java.util.TimerTask;
 
+import javax.management.JMException;
+
 /**
  * Main class to execute the prime number finder using multiple threads with pause/resume functionality.
- * This implementation divides the work of finding prime numbers between 0 and 30,000,000
- * among three separate threads, automatically pauses every 5 seconds, and resumes when ENTER is pressed.
+ * This implementation cuts the range to search (0 to 30,000,000 by default) into small chunks that are claimed on demand
+ * by one thread per available core, automatically pauses every 5 seconds, and resumes when ENTER is pressed.
  *
  * @author Jesús Pinzón & David Velásquez
  * @version 1.0
@@ -15,68 +21,306 @@ import java.util.TimerTask;
  */
 public class Main {
 
-    private static final int MAX_VALUE = 30000000;
-    private static final int THREAD_COUNT = 3;
+    private static final long MAX_VALUE = 30000000;
     private static final int SEPARATORS_NUMBER = 65;
     private static final int PAUSE_DELAY_MS = 3000; // 5 seconds
 
     private static ThreadController controller;
-    private static PrimeFinderThread[] threads;
+    private static PrimeFinderTask[] tasks;
     private static Timer currentTimer;
     private static boolean executionCompleted = false;
+    private static long startValue = 0;
+    private static long maxValue = MAX_VALUE;
+    private static EngineType engineType = null;
+    private static int threadCount = Runtime.getRuntime().availableProcessors();
+    private static int chunkSize = 0;
+    private static OutputMode outputMode = OutputMode.TEXT;
+    private static String outputFile = null;
+    private static String indexFile = null;
+    private static int reportInterval = 0;
+    private static String checkpointFile = null;
+    private static boolean resume = false;
+    private static boolean countOnly = false;
+    private static boolean vectorKernel = false;
+    private static String counterKernel = null;
+    private static ExecutionMode executionMode = ExecutionMode.THREADS;
+    private static boolean taskPerChunk = false;
 
     /**
-     * Main method that creates and executes three threads to find prime numbers
-     * in parallel across different ranges with automatic pause every 5 seconds and manual resume functionality.
+     * Main method that creates and executes one thread per core to find prime numbers
+     * in parallel, sharing a chunk scheduler, with automatic pause every 5 seconds and manual resume functionality.
      *
-     * @param args command line arguments (not used)
+     * @param args command line arguments, optionally {@code --from=N}, {@code --to=N},
+     *             {@code --engine=sieve|trial|miller-rabin}, {@code --threads=N},
+     *             {@code --chunk-size=N}, {@code --output=text|binary|silent}, {@code --output-file=PATH}
+     *             {@code --index=PATH}, {@code --report-interval=SECONDS},
+     *             {@code --checkpoint=PATH}, {@code --resume}, {@code --count-only},
+     *             {@code --kernel=scalar|vector} and {@code --executor=threads|pool|fork-join|virtual}
      */
     public static void main(String[] args) {
+        try {
+            parseArguments(args);
+            if (maxValue < startValue) {
+                throw new IllegalArgumentException("Empty range: " + startValue + " to " + maxValue);
+            }
+            if (resume && checkpointFile == null) {
+                throw new IllegalArgumentException("--resume requires --checkpoint=PATH");
+            }
+            if (checkpointFile != null && indexFile != null) {
+                throw new IllegalArgumentException("--checkpoint cannot be combined with --index, which already keeps completed blocks");
+            }
+            if (countOnly && (indexFile != null || checkpointFile != null || outputFile != null)) {
+                throw new IllegalArgumentException("--count-only does not produce primes for --index, --checkpoint or --output-file");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        if (engineType == null) {
+            engineType = EngineType.defaultFor(maxValue);
+        }
+        taskPerChunk = executionMode.isTaskPerChunk();
+        // Counted before the fallback, which still runs a task per chunk
+        int taskCount = executionMode.getTaskCount(threadCount);
+        if (!executionMode.isAvailable()) {
+            System.err.println("Virtual threads need Java 21 or later; running a task per chunk on a fork/join pool");
+            executionMode = ExecutionMode.FORK_JOIN;
+        }
+
+        // Count-only searches never materialize primes and sieve a whole wheel segment per chunk
+        WheelSieveCounter counter = null;
+        if (countOnly) {
+            try {
+                counter = new WheelSieveCounter(BasePrimes.forMaxValue(maxValue),
+                        vectorKernel ? SieveKernel.vectorIfAvailable() : SieveKernel.scalar());
+                if (vectorKernel && counter.getKernel() instanceof ScalarSieveKernel) {
+                    System.err.println("Vector API not available, run with --add-modules jdk.incubator.vector; using the scalar kernel");
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Cannot count primes in this range: " + e.getMessage());
+                return;
+            }
+            outputMode = OutputMode.SILENT;
+            counterKernel = counter.getKernel().getName();
+        }
+        if (chunkSize == 0) {
+            chunkSize = countOnly ? (int) counter.getSegmentSpan() : RangeScheduler.DEFAULT_CHUNK_SIZE;
+        }
+
         System.out.println("=".repeat(SEPARATORS_NUMBER));
-        System.out.println("Starting prime number search from 0 to " + MAX_VALUE + " using " + THREAD_COUNT + " threads...");
+        System.out.println("Starting prime number search from " + startValue + " to " + maxValue + " using " + threadCount + " threads...");
+        System.out.println("Search engine: " + getEngineName());
+        System.out.println("Executor: " + getExecutorName());
+        System.out.println("Output: " + outputMode.name().toLowerCase() + (outputFile == null ? "" : " to " + outputFile));
         System.out.println("Automatic pause every 5 seconds - Press ENTER to resume");
         System.out.println("=".repeat(SEPARATORS_NUMBER));
 
-        // Create shared thread controller
+        // Open the persistent index, if any, and schedule only the blocks it is missing
+        PrimeIndex index = null;
+        RangeScheduler scheduler;
+        CheckpointLog checkpoint = null;
+        PrimeStore resumedPrimes = null;
+        if (indexFile == null) {
+            scheduler = new RangeScheduler(startValue, maxValue, chunkSize);
+            System.out.println("Range split into " + scheduler.getChunkCount() + " chunks of " + chunkSize + " numbers");
+
+            // Log every completed chunk and, when resuming, skip the chunks logged by the previous run
+            if (checkpointFile != null) {
+                Path checkpointPath = Paths.get(checkpointFile);
+                try {
+                    if (resume && Files.exists(checkpointPath)) {
+                        CheckpointLog.Recovered recovered = CheckpointLog.recover(checkpointPath);
+                        if (recovered.getStartRange() != startValue || recovered.getEndRange() != maxValue
+                                || recovered.getChunkSize() != chunkSize) {
+                            System.err.println("Checkpoint " + checkpointFile + " belongs to the search from "
+                                    + recovered.getStartRange() + " to " + recovered.getEndRange()
+                                    + " with chunks of " + recovered.getChunkSize() + " numbers");
+                            return;
+                        }
+                        scheduler = new RangeScheduler(startValue, maxValue, chunkSize, recovered.getPendingChunks());
+                        resumedPrimes = recovered.getPrimes();
+                        checkpoint = CheckpointLog.append(checkpointPath);
+                        System.out.println("Checkpoint " + checkpointFile + ": resuming after " + recovered.getCompletedChunkCount()
+                                + " completed chunks with " + resumedPrimes.size() + " primes");
+                    } else {
+                        checkpoint = CheckpointLog.create(checkpointPath, scheduler);
+                    }
+                } catch (IOException e) {
+                    System.err.println("Could not open checkpoint " + checkpointFile + ": " + e.getMessage());
+                    return;
+                }
+            }
+        } else {
+            try {
+                index = PrimeIndex.open(Paths.get(indexFile), Math.max(PrimeIndex.DEFAULT_CAPACITY, maxValue + 1));
+            } catch (IOException e) {
+                System.err.println("Could not open index " + indexFile + ": " + e.getMessage());
+                return;
+            }
+            if (maxValue >= index.getCapacity()) {
+                System.err.println("Index " + indexFile + " only covers values below " + index.getCapacity());
+                return;
+            }
+            scheduler = createIndexScheduler(index);
+            System.out.println("Index " + indexFile + ": " + (scheduler.getChunkCount() - scheduler.getPendingChunkCount())
+                    + " of " + scheduler.getChunkCount() + " blocks already computed");
+        }
+
+        // Create shared thread controller and search engine
         controller = new ThreadController();
+        PrimeSearchEngine engine = null;
+        try {
+            if (!countOnly) {
+                engine = engineType.create(scheduler.getEndRange());
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Engine " + engineType.name().toLowerCase() + " cannot search this range: " + e.getMessage());
+            return;
+        }
 
-        // Calculate range size for each thread
-        int rangeSize = MAX_VALUE / THREAD_COUNT;
+        // Create the output where the workers write the primes they find
+        PrimeOutput output;
+        try {
+            output = outputFile == null ? PrimeOutput.toConsole(outputMode, maxValue)
+                    : PrimeOutput.toFile(outputMode, Paths.get(outputFile), maxValue);
+        } catch (IOException e) {
+            System.err.println("Could not open output file " + outputFile + ": " + e.getMessage());
+            return;
+        }
 
-        // Create array to hold thread references
-        threads = new PrimeFinderThread[THREAD_COUNT];
+        // One task per worker or, when each chunk runs on its own virtual thread, one per chunk in flight
+        tasks = new PrimeFinderTask[taskCount];
 
         // Record start time for performance measurement
         long startTime = System.currentTimeMillis();
+        WorkerMetrics[] workerMetrics = new WorkerMetrics[taskCount];
+
+        // Create the tasks sharing the same scheduler
+        for (int i = 0; i < taskCount; i++) {
+            if (countOnly) {
+                tasks[i] = new PrimeFinderTask(i + 1, scheduler, controller, counter);
+            } else if (index == null) {
+                tasks[i] = new PrimeFinderTask(i + 1, scheduler, controller, engine, output);
+                if (checkpoint != null) {
+                    tasks[i].setChunkListener(checkpoint);
+                }
+            } else {
+                // Blocks are written to the index as they complete; primes are output from the index at the end
+                tasks[i] = new PrimeFinderTask(i + 1, scheduler, controller, engine, PrimeOutput.silent());
+                tasks[i].setChunkListener(createIndexWriter(index));
+            }
+            if (taskPerChunk) {
+                tasks[i].setMaxChunks(1);
+            }
+            workerMetrics[i] = tasks[i].getMetrics();
+        }
 
-        // Create and start threads with specific ranges
-        for (int i = 0; i < THREAD_COUNT; i++) {
-            int startRange = i * rangeSize;
-            int endRange = (i == THREAD_COUNT - 1) ? MAX_VALUE : (i + 1) * rangeSize - 1;
-
-            threads[i] = new PrimeFinderThread(i + 1, startRange, endRange, controller);
-            System.out.println("Thread " + (i + 1) + " will search range: " + startRange + " to " + endRange);
-            threads[i].start();
+        // Expose the live metrics through JMX and, if requested, a periodic progress line
+        SearchMetrics metrics = new SearchMetrics(scheduler.getPendingNumberCount(), workerMetrics);
+        try {
+            metrics.registerMBeans();
+        } catch (JMException e) {
+            System.err.println("Could not register the JMX metrics: " + e.getMessage());
+        }
+        ProgressReporter reporter = new ProgressReporter(metrics);
+        if (reportInterval > 0) {
+            reporter.start(reportInterval);
         }
 
         System.out.println("=".repeat(SEPARATORS_NUMBER));
-        System.out.println("All threads started. Searching for primes...");
+        System.out.println("Starting " + taskCount + " tasks. Searching for primes...");
         System.out.println("=".repeat(SEPARATORS_NUMBER));
 
         // Start the recursive timer
         scheduleNextPause();
 
-        // Wait for all threads to complete using join()
+        // Run every task and wait for all of them to complete
+        metrics.start();
         try {
-            for (int i = 0; i < THREAD_COUNT; i++) {
-                threads[i].join();
-                System.out.println("Thread " + (i + 1) + " completed. Found " +
-                        threads[i].getPrimesCount() + " primes.");
+            if (taskPerChunk) {
+                executionMode.executePerChunk(tasks, threadCount);
+            } else {
+                executionMode.execute(tasks, threadCount);
+                for (PrimeFinderTask task : tasks) {
+                    System.out.println("Thread " + task.getTaskId() + " completed " + task.getChunksCompleted() +
+                            " chunks. Found " + task.getPrimesCount() + " primes.");
+                }
             }
         } catch (InterruptedException e) {
             System.err.println("Main thread was interrupted while waiting for worker threads: " + e.getMessage());
             Thread.currentThread().interrupt();
             return;
+        } catch (IllegalStateException e) {
+            // Some chunks were not searched, so there is no total to report. The chunks that completed
+            // stay in the checkpoint or index, so the search can be resumed
+            reporter.stop();
+            metrics.unregisterMBeans();
+            executionCompleted = true;
+            if (currentTimer != null) {
+                currentTimer.cancel();
+            }
+            try {
+                if (checkpoint != null) {
+                    checkpoint.close();
+                }
+                if (index != null) {
+                    index.close();
+                }
+                output.close();
+            } catch (IOException closing) {
+                System.err.println("Error closing the search files: " + closing.getMessage());
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            displayFailure(e);
+            return;
+        }
+
+        metrics.finish();
+        reporter.stop();
+        metrics.unregisterMBeans();
+
+        // Read the results from the index, which also holds the blocks computed by previous runs
+        long totalPrimes = 0;
+        if (index == null) {
+            for (PrimeFinderTask task : tasks) {
+                totalPrimes += task.getPrimesCount();
+            }
+            if (resumedPrimes != null) {
+                // Primes of the chunks completed before the restart, output again so the result is complete
+                totalPrimes += resumedPrimes.size();
+                PrimeOutput.Buffer buffer = output.newBuffer(0);
+                resumedPrimes.forEach(buffer::add);
+                buffer.flush();
+            }
+            if (checkpoint != null) {
+                try {
+                    checkpoint.close();
+                } catch (IOException e) {
+                    System.err.println("Error writing checkpoint: " + e.getMessage());
+                }
+            }
+        } else {
+            totalPrimes = index.countPrimes(startValue, maxValue);
+            PrimeOutput.Buffer buffer = output.newBuffer(0);
+            index.forEachPrime(startValue, maxValue, buffer::add);
+            buffer.flush();
+            try {
+                index.close();
+            } catch (IOException e) {
+                System.err.println("Error closing index: " + e.getMessage());
+            }
+        }
+
+        // Wait until every prime has been written
+        try {
+            output.close();
+        } catch (IOException e) {
+            System.err.println("Error writing primes: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
         }
 
         // Mark execution as completed and cancel any pending timers
@@ -90,7 +334,130 @@ public class Main {
         long executionTime = endTime - startTime;
 
         // Calculate and display final results
-        displayFinalResults(threads, executionTime);
+        displayFinalResults(totalPrimes, executionTime);
+    }
+
+    /**
+     * Creates a scheduler whose chunks are the index blocks overlapping the range, handing out only
+     * the blocks the index does not contain yet.
+     *
+     * @param index the persistent index
+     * @return the scheduler of the missing blocks
+     */
+    private static RangeScheduler createIndexScheduler(PrimeIndex index) {
+        long firstBlock = startValue / PrimeIndex.BLOCK_SIZE;
+        long lastBlock = maxValue / PrimeIndex.BLOCK_SIZE;
+        long[] missing = index.missingBlocks(startValue, maxValue);
+        for (int i = 0; i < missing.length; i++) {
+            missing[i] -= firstBlock;
+        }
+        return new RangeScheduler(firstBlock * PrimeIndex.BLOCK_SIZE, (lastBlock + 1) * PrimeIndex.BLOCK_SIZE - 1,
+                PrimeIndex.BLOCK_SIZE, missing);
+    }
+
+    /**
+     * Creates the listener that writes each block completed by a worker to the index.
+     *
+     * @param index the persistent index
+     * @return the chunk listener
+     */
+    private static ChunkListener createIndexWriter(PrimeIndex index) {
+        return (chunk, primes, firstPrime) -> {
+            try {
+                index.writeBlock(chunk.getStart() / PrimeIndex.BLOCK_SIZE, primes, firstPrime, primes.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * Parses the command line arguments.
+     *
+     * @param args command line arguments
+     * @throws IllegalArgumentException if an argument is not recognized, or combined with an incompatible one
+     */
+    private static void parseArguments(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--from=")) {
+                startValue = parseNonNegative(arg, "--from=");
+            } else if (arg.startsWith("--to=")) {
+                maxValue = parseNonNegative(arg, "--to=");
+            } else if (arg.startsWith("--engine=")) {
+                engineType = EngineType.fromName(arg.substring("--engine=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                threadCount = parsePositive(arg, "--threads=");
+            } else if (arg.startsWith("--chunk-size=")) {
+                chunkSize = parsePositive(arg, "--chunk-size=");
+            } else if (arg.startsWith("--output=")) {
+                outputMode = OutputMode.fromName(arg.substring("--output=".length()));
+            } else if (arg.startsWith("--output-file=")) {
+                outputFile = arg.substring("--output-file=".length());
+            } else if (arg.startsWith("--report-interval=")) {
+                reportInterval = parsePositive(arg, "--report-interval=");
+            } else if (arg.startsWith("--index=")) {
+                indexFile = arg.substring("--index=".length());
+            } else if (arg.startsWith("--checkpoint=")) {
+                checkpointFile = arg.substring("--checkpoint=".length());
+            } else if (arg.equals("--resume")) {
+                resume = true;
+            } else if (arg.equals("--count-only")) {
+                countOnly = true;
+            } else if (arg.startsWith("--executor=")) {
+                executionMode = ExecutionMode.fromName(arg.substring("--executor=".length()));
+            } else if (arg.startsWith("--kernel=")) {
+                String kernel = arg.substring("--kernel=".length());
+                if (!kernel.equals("scalar") && !kernel.equals("vector")) {
+                    throw new IllegalArgumentException("Unknown kernel '" + kernel + "', expected one of: scalar, vector");
+                }
+                vectorKernel = kernel.equals("vector");
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        if (countOnly && engineType != null) {
+            throw new IllegalArgumentException("--engine cannot be combined with --count-only, which always uses the wheel sieve counter");
+        }
+    }
+
+    /**
+     * Parses the positive integer value of a {@code --name=value} argument.
+     *
+     * @param arg the whole argument
+     * @param prefix the {@code --name=} prefix of the argument
+     * @return the parsed value
+     * @throws IllegalArgumentException if the value is not a positive integer
+     */
+    private static int parsePositive(String arg, String prefix) {
+        try {
+            int value = Integer.parseInt(arg.substring(prefix.length()));
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Expected a positive integer in: " + arg);
+    }
+
+    /**
+     * Parses the non negative long value of a {@code --name=value} argument.
+     *
+     * @param arg the whole argument
+     * @param prefix the {@code --name=} prefix of the argument
+     * @return the parsed value
+     * @throws IllegalArgumentException if the value is not a non negative long
+     */
+    private static long parseNonNegative(String arg, String prefix) {
+        try {
+            long value = Long.parseLong(arg.substring(prefix.length()));
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Expected a non negative integer in: " + arg);
     }
 
     /**
@@ -111,27 +478,33 @@ public class Main {
                     return;
                 }
 
-                // Check if any thread is still alive before pausing
-                boolean anyThreadAlive = false;
-                for (PrimeFinderThread thread : threads) {
-                    if (thread.isAlive()) {
-                        anyThreadAlive = true;
+                // Check if any task is still running before pausing
+                boolean anyTaskRunning = false;
+                for (PrimeFinderTask task : tasks) {
+                    if (!task.isFinished()) {
+                        anyTaskRunning = true;
                         break;
                     }
                 }
 
-                if (!anyThreadAlive) {
+                if (!anyTaskRunning) {
                     currentTimer.cancel();
                     return;
                 }
 
-                controller.pause();
+                try {
+                    // Wait until every worker is stopped so the progress snapshot is exact
+                    controller.pauseAndAwaitQuiescence();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
                 System.out.println("\n" + "=".repeat(SEPARATORS_NUMBER));
                 System.out.println("⏸️  THREADS PAUSED AFTER 5 SECONDS");
                 System.out.println("=".repeat(SEPARATORS_NUMBER));
 
                 // Display current progress
-                displayCurrentProgress(threads);
+                displayCurrentProgress(tasks);
 
                 System.out.println("Press ENTER to resume execution...");
                 System.out.println("=".repeat(SEPARATORS_NUMBER));
@@ -162,18 +535,27 @@ public class Main {
     }
 
     /**
-     * Displays the current progress of all threads when paused.
+     * Displays the current progress of all tasks when paused, one line per worker unless there is a task per chunk.
      *
-     * @param threads array of PrimeFinderThread instances
+     * @param tasks array of PrimeFinderTask instances
      */
-    private static void displayCurrentProgress(PrimeFinderThread[] threads) {
+    private static void displayCurrentProgress(PrimeFinderTask[] tasks) {
         System.out.println("📊 CURRENT PROGRESS:");
-        int totalPrimesFound = 0;
+        long totalPrimesFound = 0;
+        long chunksCompleted = 0;
 
-        for (PrimeFinderThread thread : threads) {
-            int primesFound = thread.getPrimesCount();
+        for (PrimeFinderTask task : tasks) {
+            long primesFound = task.getPrimesCount();
             totalPrimesFound += primesFound;
-            System.out.println("   Thread " + thread.getThreadId() + " - Primes found so far: " + primesFound);
+            chunksCompleted += task.getChunksCompleted();
+            if (!taskPerChunk) {
+                System.out.println("   Thread " + task.getTaskId() + " - Chunks completed: " + task.getChunksCompleted() +
+                        " - Position: " + task.getMetrics().getCurrentPosition() + " - Primes found so far: " + primesFound);
+            }
+        }
+
+        if (taskPerChunk) {
+            System.out.println("   Chunks completed: " + chunksCompleted + " by " + tasks.length + " tasks in flight");
         }
 
         System.out.println("   Total primes found so far: " + totalPrimesFound);
@@ -182,24 +564,59 @@ public class Main {
     /**
      * Displays the final execution results.
      *
-     * @param threads array of PrimeFinderThread instances
+     * @param totalPrimes total amount of primes found in the range
      * @param executionTime total execution time in milliseconds
      */
-    private static void displayFinalResults(PrimeFinderThread[] threads, long executionTime) {
-        // Calculate total primes found
-        int totalPrimes = 0;
-        for (PrimeFinderThread thread : threads) {
-            totalPrimes += thread.getPrimesCount();
-        }
-
+    private static void displayFinalResults(long totalPrimes, long executionTime) {
         // Display final results
         System.out.println("=".repeat(SEPARATORS_NUMBER));
         System.out.println("✅ EXECUTION COMPLETED");
         System.out.println("=".repeat(SEPARATORS_NUMBER));
         System.out.println("Total prime numbers found: " + totalPrimes);
         System.out.println("Execution time: " + executionTime + " milliseconds");
-        System.out.println("Range searched: 0 to " + MAX_VALUE);
-        System.out.println("Number of threads used: " + THREAD_COUNT);
+        System.out.println("Range searched: " + startValue + " to " + maxValue);
+        System.out.println("Number of threads used: " + threadCount);
+        System.out.println("Executor used: " + getExecutorName());
+        System.out.println("Search engine used: " + getEngineName());
         System.out.println("=".repeat(SEPARATORS_NUMBER));
     }
+
+    /**
+     * Displays why the search failed, instead of a total that would miss the primes of unsearched chunks.
+     *
+     * @param failure the failure of the tasks
+     */
+    private static void displayFailure(IllegalStateException failure) {
+        System.out.println("=".repeat(SEPARATORS_NUMBER));
+        System.out.println("❌ EXECUTION FAILED");
+        System.out.println("=".repeat(SEPARATORS_NUMBER));
+        System.err.println(failure.getMessage());
+        if (failure.getCause() != null) {
+            failure.getCause().printStackTrace();
+        }
+        for (Throwable other : failure.getSuppressed()) {
+            System.err.println("Another task also failed: " + other);
+        }
+        System.out.println("Range searched: " + startValue + " to " + maxValue + ", incomplete");
+        System.out.println("=".repeat(SEPARATORS_NUMBER));
+    }
+
+    /**
+     * Returns the name of the engine used by the search, as shown to the user.
+     *
+     * @return the engine name
+     */
+    private static String getEngineName() {
+        return countOnly ? "wheel sieve (count only, " + counterKernel + " kernel)" : engineType.name().toLowerCase();
+    }
+
+    /**
+     * Returns the name of the execution mode as shown to the user.
+     *
+     * @return the executor name
+     */
+    private static String getExecutorName() {
+        String name = executionMode.name().toLowerCase().replace('_', '-');
+        return taskPerChunk ? name + " (a task per chunk)" : name;
+    }
 }
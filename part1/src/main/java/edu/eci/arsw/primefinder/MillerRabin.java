@@ -0,0 +1,119 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * Deterministic Miller-Rabin primality test for 64-bit values.
+ * Testing the first twelve primes as bases is enough to decide the primality of any
+ * number below 3.3 * 10^24, which covers every non negative long. Modular products are
+ * computed with Montgomery multiplication, so no value ever overflows.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-15
+ */
+public final class MillerRabin {
+
+    private static final long[] BASES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+
+    private MillerRabin() {
+    }
+
+    /**
+     * Determines if a given number is prime.
+     *
+     * @param n the number to check for primality
+     * @return true if the number is prime, false otherwise
+     */
+    public static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (long base : BASES) {
+            if (n % base == 0) {
+                return n == base;
+            }
+        }
+        if (n < BASES[BASES.length - 1] * BASES[BASES.length - 1]) {
+            return true;
+        }
+
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>>= s;
+
+        long nInv = negativeInverse(n);
+        long one = Long.remainderUnsigned(-n, n);
+        long minusOne = n - one;
+        long rSquared = one;
+        for (int i = 0; i < 64; i++) {
+            rSquared = doubleMod(rSquared, n);
+        }
+
+        for (long base : BASES) {
+            long x = power(montgomeryMultiply(base, rSquared, n, nInv), d, one, n, nInv);
+            if (x == one || x == minusOne) {
+                continue;
+            }
+            boolean witness = true;
+            for (int r = 1; r < s && witness; r++) {
+                x = montgomeryMultiply(x, x, n, nInv);
+                if (x == minusOne) {
+                    witness = false;
+                }
+            }
+            if (witness) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes base^exponent in Montgomery form.
+     */
+    private static long power(long base, long exponent, long one, long n, long nInv) {
+        long result = one;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = montgomeryMultiply(result, base, n, nInv);
+            }
+            base = montgomeryMultiply(base, base, n, nInv);
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Computes a * b / 2^64 mod n for a, b &lt; n &lt; 2^63 (Montgomery reduction).
+     */
+    private static long montgomeryMultiply(long a, long b, long n, long nInv) {
+        long low = a * b;
+        long high = Math.multiplyHigh(a, b);
+        long m = low * nInv;
+        long mnHigh = Math.multiplyHigh(m, n) + ((m >> 63) & n);
+        // low + low(m * n) is 0 mod 2^64, so it carries exactly when low is not zero
+        long t = high + mnHigh + (low != 0 ? 1 : 0);
+        if (Long.compareUnsigned(t, n) >= 0) {
+            t -= n;
+        }
+        return t;
+    }
+
+    /**
+     * Returns -n^-1 mod 2^64 for an odd n, using Newton's iteration.
+     */
+    private static long negativeInverse(long n) {
+        long inverse = n;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - n * inverse;
+        }
+        return -inverse;
+    }
+
+    private static long doubleMod(long value, long n) {
+        long doubled = value << 1;
+        if (Long.compareUnsigned(doubled, n) >= 0) {
+            doubled -= n;
+        }
+        return doubled;
+    }
+}
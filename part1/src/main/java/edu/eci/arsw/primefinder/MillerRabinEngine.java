@@ -0,0 +1,102 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Prime search engine for windows of large 64-bit numbers, such as [10^15, 10^15 + 10^9].
+ * Each segment of the window is first pre-sieved with a small table of primes, which removes
+ * most composites, and only the survivors are tested with a deterministic Miller-Rabin test.
+ * Survivors below the square of the pre-sieve limit are primes and skip the test.
+ * A pause point is checked once per segment.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-15
+ */
+public class MillerRabinEngine implements PrimeSearchEngine {
+
+    /**
+     * Default limit of the primes used to pre-sieve each segment.
+     */
+    public static final int DEFAULT_PRESIEVE_LIMIT = 1 << 16;
+
+    private final BasePrimes smallPrimes;
+    private final int segmentSize;
+
+    /**
+     * Creates an engine that pre-sieves with every prime up to {@link #DEFAULT_PRESIEVE_LIMIT}.
+     */
+    public MillerRabinEngine() {
+        this(BasePrimes.upTo(DEFAULT_PRESIEVE_LIMIT), SegmentedSieveEngine.DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates an engine with a custom pre-sieve table and segment size.
+     *
+     * @param smallPrimes primes used to pre-sieve each segment
+     * @param segmentSize amount of odd numbers pre-sieved at once
+     */
+    public MillerRabinEngine(BasePrimes smallPrimes, int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentSize);
+        }
+        this.smallPrimes = smallPrimes;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public void search(long startRange, long endRange, ThreadController controller, LongConsumer primeConsumer)
+            throws InterruptedException {
+        if (startRange <= 2 && endRange >= 2) {
+            primeConsumer.accept(2);
+        }
+
+        // Numbers whose smallest factor could exceed the pre-sieve limit need the Miller-Rabin test
+        long provenLimit = (long) smallPrimes.getLimit() * smallPrimes.getLimit();
+        long firstOdd = Math.max(3, startRange | 1);
+        boolean[] composite = new boolean[segmentSize];
+
+        for (long low = firstOdd; low <= endRange && low > 0; low += 2L * segmentSize) {
+            controller.checkPausePoint();
+
+            long high = endRange - low < 2L * segmentSize ? endRange : low + 2L * segmentSize - 1;
+            int length = (int) ((high - low) / 2 + 1);
+            Arrays.fill(composite, 0, length, false);
+
+            for (int k = 1; k < smallPrimes.size(); k++) {
+                long p = smallPrimes.get(k);
+                if (p > high / p) {
+                    break;
+                }
+
+                // Offset of the first multiple of p in the segment, skipped if the segment has none
+                long offset = (p - low % p) % p;
+                if (offset > high - low) {
+                    continue;
+                }
+                long first = Math.max(p * p, low + offset);
+                if ((first & 1) == 0) {
+                    first += p;
+                }
+                for (long multiple = first; multiple <= high && multiple > 0; multiple += 2 * p) {
+                    composite[(int) ((multiple - low) >>> 1)] = true;
+                }
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (!composite[i]) {
+                    long candidate = low + 2L * i;
+                    if (candidate < provenLimit || MillerRabin.isPrime(candidate)) {
+                        primeConsumer.accept(candidate);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Miller-Rabin";
+    }
+}
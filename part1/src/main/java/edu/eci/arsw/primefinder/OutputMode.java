@@ -0,0 +1,43 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * Ways in which the primes found by the workers can be written out.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-12
+ */
+public enum OutputMode {
+
+    /**
+     * Primes are only counted and stored, nothing is written.
+     */
+    SILENT,
+
+    /**
+     * One "Thread N found prime: P" line per prime, written in large batches.
+     */
+    TEXT,
+
+    /**
+     * Each prime as a big-endian integer, written in large batches. Values take 4 bytes when the
+     * searched range fits in an int and 8 bytes otherwise.
+     */
+    BINARY;
+
+    /**
+     * Parses an output mode given on the command line (case insensitive).
+     *
+     * @param name the mode name, for example "silent", "text" or "binary"
+     * @return the matching output mode
+     * @throws IllegalArgumentException if the name does not match any mode
+     */
+    public static OutputMode fromName(String name) {
+        for (OutputMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown output mode '" + name + "', expected one of: silent, text, binary");
+    }
+}
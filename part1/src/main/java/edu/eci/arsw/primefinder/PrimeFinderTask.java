@@ -0,0 +1,212 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Unit of work of a prime search: claims chunks from a RangeScheduler and searches them, storing the primes
+ * it finds and handing them to its output. It does not own a thread, so it can run on a dedicated
+ * {@link PrimeFinderThread} or be submitted to any executor (see {@link ExecutionMode}). A task limited to a
+ * few chunks per run can be run again, one run at a time, and accumulates the results of every run.
+ * Supports pause and resume functionality through a ThreadController.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-04
+ */
+public class PrimeFinderTask implements Runnable {
+
+    private final int taskId;
+    private final RangeScheduler scheduler;
+    private final PrimeStore primes;
+    private final ThreadController controller;
+    private final PrimeSearchEngine engine;
+    private final WheelSieveCounter counter;
+    private final PrimeOutput output;
+    private final WorkerMetrics metrics;
+    private long countedPrimes;
+    private long maxChunks = Long.MAX_VALUE;
+    private boolean registered = false;
+    private volatile boolean finished = false;
+    private volatile Throwable failure;
+    private ChunkListener chunkListener;
+
+    /**
+     * Creates a task that searches the chunks it claims with the given engine.
+     *
+     * @param taskId the custom identifier for this task
+     * @param scheduler the scheduler that hands out the chunks to search
+     * @param controller the thread controller for pause/resume functionality
+     * @param engine the engine used to find the primes of each chunk
+     * @param output the output where found primes are written
+     */
+    public PrimeFinderTask(int taskId, RangeScheduler scheduler, ThreadController controller,
+                           PrimeSearchEngine engine, PrimeOutput output) {
+        this(taskId, scheduler, controller, engine, null, output);
+    }
+
+    /**
+     * Creates a count-only task: the primes of each chunk are counted with the wheel sieve and never
+     * stored or written.
+     *
+     * @param taskId the custom identifier for this task
+     * @param scheduler the scheduler that hands out the chunks to count
+     * @param controller the thread controller for pause/resume functionality
+     * @param counter the counter used to count the primes of each chunk
+     */
+    public PrimeFinderTask(int taskId, RangeScheduler scheduler, ThreadController controller,
+                           WheelSieveCounter counter) {
+        this(taskId, scheduler, controller, null, counter, PrimeOutput.silent());
+    }
+
+    private PrimeFinderTask(int taskId, RangeScheduler scheduler, ThreadController controller,
+                            PrimeSearchEngine engine, WheelSieveCounter counter, PrimeOutput output) {
+        this.taskId = taskId;
+        this.scheduler = scheduler;
+        this.controller = controller;
+        this.engine = engine;
+        this.counter = counter;
+        this.output = output;
+        this.primes = PrimeStore.forMaxValue(scheduler.getEndRange());
+        this.metrics = new WorkerMetrics(taskId);
+    }
+
+    /**
+     * Registers this task as a worker of the controller ahead of running it, so a pause that waits for
+     * quiescence also waits for this task. Tasks that are not registered in advance register themselves
+     * when they start running and stop at a pause point before claiming any chunk.
+     */
+    void registerWorker() {
+        controller.registerWorker();
+        registered = true;
+    }
+
+    /**
+     * Claims chunks from the scheduler until the range is exhausted, or until the chunk limit of this run
+     * is reached, and delegates the search of each chunk to the engine or counter.
+     */
+    @Override
+    public void run() {
+        if (!registered) {
+            registerWorker();
+        }
+        PrimeOutput.Buffer buffer = output.newBuffer(taskId);
+        LongConsumer onPrime = prime -> {
+            primes.add(prime);
+            buffer.add(prime);
+        };
+        metrics.bindToCurrentThread();
+        try {
+            RangeScheduler.Chunk chunk;
+            for (long claimed = 0; claimed < maxChunks; claimed++) {
+                controller.checkPausePoint();
+                if ((chunk = scheduler.nextChunk()) == null) {
+                    finished = true;
+                    break;
+                }
+                metrics.chunkStarted(chunk);
+                if (counter != null) {
+                    long count = counter.countPrimes(chunk.getStart(), chunk.getEnd(), controller);
+                    countedPrimes += count;
+                    metrics.chunkCompleted(chunk, count);
+                    continue;
+                }
+                int firstPrime = primes.size();
+                engine.search(chunk.getStart(), chunk.getEnd(), controller, onPrime);
+                if (chunkListener != null) {
+                    chunkListener.chunkCompleted(chunk, primes, firstPrime);
+                }
+                metrics.chunkCompleted(chunk, primes.size() - firstPrime);
+            }
+        } catch (InterruptedException e) {
+            System.out.println("Task " + taskId + " was interrupted");
+            failure = e;
+            finished = true;
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            finished = true;
+            throw e;
+        } finally {
+            buffer.flush();
+            metrics.unbindFromCurrentThread();
+            // The next run, if any, registers again
+            registered = false;
+            controller.deregisterWorker();
+        }
+    }
+
+    /**
+     * Sets the listener notified each time this task finishes a chunk. Must be called before running it.
+     *
+     * @param chunkListener the listener, or null to remove it
+     */
+    public void setChunkListener(ChunkListener chunkListener) {
+        this.chunkListener = chunkListener;
+    }
+
+    /**
+     * Limits the amount of chunks each run of this task claims, for example to 1 to run a task per chunk.
+     * Must be called before running it.
+     *
+     * @param maxChunks the most chunks to claim in a run
+     */
+    public void setMaxChunks(long maxChunks) {
+        this.maxChunks = maxChunks;
+    }
+
+    /**
+     * Returns whether this task has nothing left to run.
+     * @return true once the task has found the range exhausted or failed
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns why this task stopped before exhausting its chunks.
+     * @return the exception that stopped the task, including an interruption, or null if it did not fail
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the store with the prime numbers found by this task.
+     * @return a store containing all prime numbers found within the claimed chunks, in ascending order
+     */
+    public PrimeStore getPrimes() {
+        return primes;
+    }
+
+    /**
+     * Returns the total count of prime numbers found by this task, stored or only counted.
+     * @return the number of prime numbers found
+     */
+    public long getPrimesCount() {
+        return primes.size() + countedPrimes;
+    }
+
+    /**
+     * Returns the number of chunks this task has finished searching.
+     * @return the amount of completed chunks
+     */
+    public long getChunksCompleted() {
+        return metrics.getChunksCompleted();
+    }
+
+    /**
+     * Returns the live counters of this task, which can be read at any time without pausing it.
+     * @return the metrics of this task
+     */
+    public WorkerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the custom task identifier.
+     * @return the ID assigned to this task
+     */
+    public int getTaskId() {
+        return taskId;
+    }
+}
@@ -1,106 +1,152 @@
 package edu.eci.arsw.primefinder;
 
-import java.util.LinkedList;
-import java.util.List;
-
 /**
  * Thread implementation for finding prime numbers within a specified range.
- * This class extends Thread and calculates all prime numbers between two given integers.
+ * This class extends Thread and runs a {@link PrimeFinderTask}, which calculates all prime numbers
+ * of the chunks it claims from a RangeScheduler.
  * Supports pause and resume functionality through a ThreadController.
  *
  * @author Jesús Pinzón & David Velásquez
- * @version 1.0
+ * @version 1.2
  * @since 2025-08-28
  */
 public class PrimeFinderThread extends Thread {
 
-    private int threadId;
-    private int startRange;
-    private int endRange;
-    private List<Integer> primes = new LinkedList<Integer>();
-    private ThreadController controller;
+    private final PrimeFinderTask task;
+
+    /**
+     * Constructor to initialize the prime finder thread with the default trial division engine.
+     * Found primes are stored but not written anywhere.
+     *
+     * @param threadId the custom identifier for this thread
+     * @param startRange the starting value of the range (inclusive)
+     * @param endRange the ending value of the range (inclusive)
+     * @param controller the thread controller for pause/resume functionality
+     */
+    public PrimeFinderThread(int threadId, long startRange, long endRange, ThreadController controller) {
+        this(threadId, startRange, endRange, controller, new TrialDivisionEngine());
+    }
 
     /**
-     * Constructor to initialize the prime finder thread with a specific range and controller.
+     * Constructor to initialize the prime finder thread with a specific range, controller and search engine.
+     * The whole range is searched as a single chunk and found primes are not written anywhere.
      *
      * @param threadId the custom identifier for this thread
      * @param startRange the starting value of the range (inclusive)
      * @param endRange the ending value of the range (inclusive)
      * @param controller the thread controller for pause/resume functionality
+     * @param engine the engine used to find the primes of the range
+     */
+    public PrimeFinderThread(int threadId, long startRange, long endRange, ThreadController controller,
+                             PrimeSearchEngine engine) {
+        this(threadId, new RangeScheduler(startRange, endRange, endRange - startRange + 1), controller, engine,
+                PrimeOutput.silent());
+    }
+
+    /**
+     * Constructor to initialize a prime finder thread that takes its work from a shared scheduler.
+     * Several threads can share the same scheduler; each one keeps claiming chunks until none is left.
+     *
+     * @param threadId the custom identifier for this thread
+     * @param scheduler the scheduler that hands out the chunks to search
+     * @param controller the thread controller for pause/resume functionality
+     * @param engine the engine used to find the primes of each chunk
+     * @param output the output where found primes are written
+     */
+    public PrimeFinderThread(int threadId, RangeScheduler scheduler, ThreadController controller,
+                             PrimeSearchEngine engine, PrimeOutput output) {
+        this(new PrimeFinderTask(threadId, scheduler, controller, engine, output));
+    }
+
+    /**
+     * Constructor to initialize a count-only thread that takes its work from a shared scheduler.
+     * The primes of each chunk are counted with the wheel sieve and never stored or written.
+     *
+     * @param threadId the custom identifier for this thread
+     * @param scheduler the scheduler that hands out the chunks to count
+     * @param controller the thread controller for pause/resume functionality
+     * @param counter the counter used to count the primes of each chunk
+     */
+    public PrimeFinderThread(int threadId, RangeScheduler scheduler, ThreadController controller,
+                             WheelSieveCounter counter) {
+        this(new PrimeFinderTask(threadId, scheduler, controller, counter));
+    }
+
+    /**
+     * Constructor to run an existing task on its own thread.
+     *
+     * @param task the task to run
      */
-    public PrimeFinderThread(int threadId, int startRange, int endRange, ThreadController controller) {
+    public PrimeFinderThread(PrimeFinderTask task) {
         super();
-        this.threadId = threadId;
-        this.startRange = startRange;
-        this.endRange = endRange;
-        this.controller = controller;
+        this.task = task;
     }
 
     /**
-     * Main execution method of the thread. Iterates through the specified range and finds all prime numbers.
-     * Checks for pause points periodically to support pause/resume functionality.
-     * Each found prime number is printed to the console.
+     * Registers this thread as a worker of the controller before starting it, so a pause that waits
+     * for quiescence also waits for this thread.
+     */
+    @Override
+    public synchronized void start() {
+        task.registerWorker();
+        super.start();
+    }
+
+    /**
+     * Main execution method of the thread, which runs the task until the range is exhausted.
      */
     @Override
     public void run() {
-        try {
-            for (int i = startRange; i <= endRange; i++) {
-                // Check pause point every 1000 iterations for better responsiveness
-                if (i % 1000 == 0) {
-                    controller.checkPausePoint();
-                }
-
-                if (isPrime(i)) {
-                    primes.add(i);
-                    System.out.println("Thread " + threadId + " found prime: " + i);
-                }
-            }
-        } catch (InterruptedException e) {
-            System.out.println("Thread " + threadId + " was interrupted");
-            Thread.currentThread().interrupt();
-        }
+        task.run();
     }
 
     /**
-     * Determines if a given number is prime.
-     * A prime number is a natural number greater than 1 that has no positive divisors other than 1 and itself.
+     * Sets the listener notified each time this thread finishes a chunk. Must be called before start().
      *
-     * @param number the number to check for primality
-     * @return true if the number is prime, false otherwise
+     * @param chunkListener the listener, or null to remove it
      */
-    private boolean isPrime(int number) {
-        if (number <= 1) {
-            return false;
-        }
-        if (number == 2) {
-            return true;
-        }
-        if (number % 2 == 0) {
-            return false;
-        }
-
-        for (int i = 3; i * i <= number; i += 2) {
-            if (number % i == 0) {
-                return false;
-            }
-        }
-        return true;
+    public void setChunkListener(ChunkListener chunkListener) {
+        task.setChunkListener(chunkListener);
     }
 
     /**
-     * Returns the list of prime numbers found by this thread.
-     * @return a list containing all prime numbers found within the specified range
+     * Returns the task run by this thread.
+     * @return the task
      */
-    public List<Integer> getPrimes() {
-        return primes;
+    public PrimeFinderTask getTask() {
+        return task;
     }
 
     /**
-     * Returns the total count of prime numbers found by this thread.
+     * Returns the store with the prime numbers found by this thread.
+     * @return a store containing all prime numbers found within the claimed chunks, in ascending order
+     */
+    public PrimeStore getPrimes() {
+        return task.getPrimes();
+    }
+
+    /**
+     * Returns the total count of prime numbers found by this thread, stored or only counted.
      * @return the number of prime numbers found
      */
-    public int getPrimesCount() {
-        return primes.size();
+    public long getPrimesCount() {
+        return task.getPrimesCount();
+    }
+
+    /**
+     * Returns the number of chunks this thread has finished searching.
+     * @return the amount of completed chunks
+     */
+    public long getChunksCompleted() {
+        return task.getChunksCompleted();
+    }
+
+    /**
+     * Returns the live counters of this thread, which can be read at any time without pausing it.
+     * @return the metrics of this thread
+     */
+    public WorkerMetrics getMetrics() {
+        return task.getMetrics();
     }
 
     /**
@@ -108,6 +154,6 @@ public class PrimeFinderThread extends Thread {
      * @return the thread ID assigned to this thread
      */
     public int getThreadId() {
-        return threadId;
+        return task.getTaskId();
     }
 }
@@ -0,0 +1,428 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Persistent index of prime numbers stored in a memory-mapped file.
+ * The numbers are grouped in blocks of {@link #BLOCK_SIZE} values. Each block is an odd-only bitset
+ * (one bit per odd number) plus an entry in a count table, so once a block has been computed
+ * isPrime(n), pi(x) and the primes of a range are answered straight from the mapped file.
+ * Blocks that have not been computed yet are reported by {@link #missingBlocks(long, long)}.
+ * <p>
+ * File layout: a 4 KB header, the count table (one long per block, holding count + 1 so that the
+ * zeros of a new sparse file mean "missing") and the bitsets of every block.
+ * <p>
+ * Several processes can open the same file at once. The file is initialized under an exclusive lock,
+ * and a block is written while holding a lock on its count entry. Its bits are written first and
+ * its count last, so readers never see a count for a block that is still being written.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-18
+ */
+public class PrimeIndex implements Closeable {
+
+    /**
+     * Amount of numbers per block.
+     */
+    public static final int BLOCK_SIZE = 1 << 20;
+
+    /**
+     * Default capacity of a new index: every value below 2^32.
+     */
+    public static final long DEFAULT_CAPACITY = 1L << 32;
+
+    private static final long MAGIC = 0x5052494d45494458L; // "PRIMEIDX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4096;
+    private static final int BLOCK_BYTES = BLOCK_SIZE / 16;
+    private static final int BLOCK_WORDS = BLOCK_BYTES / 8;
+    private static final int REGION_BLOCKS = 1 << 13;
+
+    private final FileChannel channel;
+    private final long blockCount;
+    private final long dataOffset;
+    private final MappedByteBuffer table;
+    private final MappedByteBuffer[] regions;
+    private long[] cumulative = new long[1];
+
+    private PrimeIndex(FileChannel channel, long blockCount) throws IOException {
+        this.channel = channel;
+        this.blockCount = blockCount;
+        long tableBytes = (blockCount * 8 + HEADER_SIZE - 1) / HEADER_SIZE * HEADER_SIZE;
+        this.dataOffset = HEADER_SIZE + tableBytes;
+        this.table = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE, blockCount * 8);
+        this.regions = new MappedByteBuffer[(int) ((blockCount + REGION_BLOCKS - 1) / REGION_BLOCKS)];
+    }
+
+    /**
+     * Opens the index stored in the given file, creating it if it does not exist.
+     *
+     * @param file the index file
+     * @param capacity the values a new index must cover, from 0 (inclusive) to capacity (exclusive);
+     *                 ignored when the file already exists
+     * @return the opened index
+     * @throws IOException if the file cannot be opened or is not a valid index
+     */
+    public static PrimeIndex open(Path file, long capacity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long blockCount;
+            FileLock lock = channel.lock(0, HEADER_SIZE, false);
+            try {
+                ByteBuffer header = ByteBuffer.allocate(24);
+                if (channel.size() == 0) {
+                    blockCount = (capacity + BLOCK_SIZE - 1) / BLOCK_SIZE;
+                    header.putLong(MAGIC).putInt(VERSION).putInt(BLOCK_SIZE).putLong(blockCount).flip();
+                    channel.write(header, 0);
+                    long tableBytes = (blockCount * 8 + HEADER_SIZE - 1) / HEADER_SIZE * HEADER_SIZE;
+                    // Extend the (sparse) file to its final size
+                    channel.write(ByteBuffer.allocate(1), HEADER_SIZE + tableBytes + blockCount * BLOCK_BYTES - 1);
+                    channel.force(true);
+                } else {
+                    channel.read(header, 0);
+                    header.flip();
+                    if (header.remaining() < 24 || header.getLong() != MAGIC || header.getInt() != VERSION
+                            || header.getInt() != BLOCK_SIZE) {
+                        throw new IOException("Not a prime index file: " + file);
+                    }
+                    blockCount = header.getLong();
+                }
+            } finally {
+                lock.release();
+            }
+            PrimeIndex index = new PrimeIndex(channel, blockCount);
+            index.refresh();
+            return index;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the first value not covered by this index.
+     * @return the capacity of the index
+     */
+    public long getCapacity() {
+        return blockCount * BLOCK_SIZE;
+    }
+
+    /**
+     * Tells whether the given block has already been computed.
+     *
+     * @param block the block index
+     * @return true if the primes of the block are available
+     */
+    public boolean isBlockComplete(long block) {
+        return table.getLong((int) (block * 8)) != 0;
+    }
+
+    /**
+     * Returns the indexes of the blocks overlapping [from, to] that have not been computed yet.
+     *
+     * @param from the starting value (inclusive)
+     * @param to the ending value (inclusive)
+     * @return the missing block indexes, in ascending order
+     */
+    public long[] missingBlocks(long from, long to) {
+        checkRange(from, to);
+        long first = from / BLOCK_SIZE;
+        long last = to / BLOCK_SIZE;
+        int missing = 0;
+        for (long block = first; block <= last; block++) {
+            if (!isBlockComplete(block)) {
+                missing++;
+            }
+        }
+        long[] blocks = new long[missing];
+        int next = 0;
+        for (long block = first; block <= last; block++) {
+            if (!isBlockComplete(block)) {
+                blocks[next++] = block;
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Stores the primes of a whole block. If another thread or process already stored the block,
+     * the call has no effect.
+     *
+     * @param block the block index
+     * @param primes store containing the primes of the block
+     * @param from position in the store of the first prime of the block (inclusive)
+     * @param to position in the store after the last prime of the block (exclusive)
+     * @throws IOException if the block cannot be locked
+     */
+    public void writeBlock(long block, PrimeStore primes, int from, int to) throws IOException {
+        checkBlock(block);
+        FileLock lock = channel.lock(HEADER_SIZE + block * 8, 8, false);
+        try {
+            if (isBlockComplete(block)) {
+                return;
+            }
+
+            long[] words = new long[BLOCK_WORDS];
+            long blockStart = block * BLOCK_SIZE;
+            for (int i = from; i < to; i++) {
+                long prime = primes.get(i);
+                if (prime != 2) {
+                    int bit = (int) ((prime - blockStart) >>> 1);
+                    words[bit >>> 6] |= 1L << bit;
+                }
+            }
+
+            MappedByteBuffer region = region(block);
+            int offset = blockOffset(block);
+            for (int w = 0; w < BLOCK_WORDS; w++) {
+                region.putLong(offset + w * 8, words[w]);
+            }
+            table.putLong((int) (block * 8), (to - from) + 1L);
+        } finally {
+            lock.release();
+        }
+        synchronized (this) {
+            cumulative = extendCumulative(cumulative);
+        }
+    }
+
+    /**
+     * Determines if a given number is prime, reading it from the index.
+     *
+     * @param number the number to check for primality
+     * @return true if the number is prime, false otherwise
+     * @throws IllegalStateException if the block of the number has not been computed
+     */
+    public boolean isPrime(long number) {
+        checkRange(number, number);
+        long block = number / BLOCK_SIZE;
+        requireComplete(block);
+        if (number == 2) {
+            return true;
+        }
+        if ((number & 1) == 0) {
+            return false;
+        }
+        int bit = (int) ((number - block * BLOCK_SIZE) >>> 1);
+        return (region(block).getLong(blockOffset(block) + (bit >>> 6) * 8) & (1L << bit)) != 0;
+    }
+
+    /**
+     * Returns pi(x), the number of primes less than or equal to x.
+     *
+     * @param x the upper limit (inclusive)
+     * @return the number of primes up to x
+     * @throws IllegalStateException if any block up to x has not been computed
+     */
+    public long pi(long x) {
+        if (x < 2) {
+            return 0;
+        }
+        return countPrimes(0, x);
+    }
+
+    /**
+     * Counts the primes within the given range.
+     *
+     * @param from the starting value of the range (inclusive)
+     * @param to the ending value of the range (inclusive)
+     * @return the number of primes p such that from &lt;= p &lt;= to
+     * @throws IllegalStateException if any block of the range has not been computed
+     */
+    public long countPrimes(long from, long to) {
+        checkRange(from, to);
+        long firstBlock = from / BLOCK_SIZE;
+        long lastBlock = to / BLOCK_SIZE;
+        long count = countBlocks(firstBlock, lastBlock);
+        count -= countInBlock(firstBlock, firstBlock * BLOCK_SIZE, from - 1);
+        count -= countInBlock(lastBlock, to + 1, (lastBlock + 1) * BLOCK_SIZE - 1);
+        return count;
+    }
+
+    /**
+     * Passes every prime within the given range, in ascending order, to the given consumer.
+     *
+     * @param from the starting value of the range (inclusive)
+     * @param to the ending value of the range (inclusive)
+     * @param consumer receives each prime
+     * @throws IllegalStateException if any block of the range has not been computed
+     */
+    public void forEachPrime(long from, long to, LongConsumer consumer) {
+        checkRange(from, to);
+        for (long block = from / BLOCK_SIZE; block <= to / BLOCK_SIZE; block++) {
+            requireComplete(block);
+            long blockStart = block * BLOCK_SIZE;
+            if (block == 0 && from <= 2 && to >= 2) {
+                consumer.accept(2);
+            }
+            MappedByteBuffer region = region(block);
+            int offset = blockOffset(block);
+            for (int w = 0; w < BLOCK_WORDS; w++) {
+                long word = region.getLong(offset + w * 8);
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    long prime = blockStart + 2L * (w * 64 + bit) + 1;
+                    if (prime > to) {
+                        return;
+                    }
+                    if (prime >= from) {
+                        consumer.accept(prime);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Rereads the count table, picking up the blocks written by other processes.
+     */
+    public synchronized void refresh() {
+        cumulative = extendCumulative(new long[1]);
+    }
+
+    /**
+     * Writes the pending changes to disk and closes the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        table.force();
+        for (MappedByteBuffer region : regions) {
+            if (region != null) {
+                region.force();
+            }
+        }
+        channel.close();
+    }
+
+    /**
+     * Returns the count of a block, or -1 if it has not been computed.
+     */
+    private long blockCount(long block) {
+        return table.getLong((int) (block * 8)) - 1;
+    }
+
+    /**
+     * Extends the table of cumulative counts over the longest prefix of complete blocks.
+     * Entry i holds the number of primes below block i.
+     */
+    private long[] extendCumulative(long[] known) {
+        int length = known.length;
+        while (length <= blockCount && blockCount(length - 1) >= 0) {
+            length++;
+        }
+        if (length == known.length) {
+            return known;
+        }
+        long[] extended = Arrays.copyOf(known, length);
+        for (int i = known.length; i < length; i++) {
+            extended[i] = extended[i - 1] + blockCount(i - 1);
+        }
+        return extended;
+    }
+
+    /**
+     * Sums the counts of the blocks in [first, last], using the cumulative table when possible.
+     */
+    private long countBlocks(long first, long last) {
+        long[] prefix;
+        synchronized (this) {
+            prefix = cumulative;
+        }
+        if (last + 1 < prefix.length) {
+            return prefix[(int) (last + 1)] - prefix[(int) first];
+        }
+        long count = 0;
+        for (long block = first; block <= last; block++) {
+            requireComplete(block);
+            count += blockCount(block);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the primes of a single block within [from, to]; the range may be empty.
+     */
+    private long countInBlock(long block, long from, long to) {
+        long blockStart = block * BLOCK_SIZE;
+        from = Math.max(from, blockStart);
+        to = Math.min(to, blockStart + BLOCK_SIZE - 1);
+        if (to < from) {
+            return 0;
+        }
+        requireComplete(block);
+        long count = (block == 0 && from <= 2 && to >= 2) ? 1 : 0;
+        // Bits of the odd numbers n with from <= n <= to
+        long firstBit = (from - blockStart) >>> 1;
+        long lastBit = (to - blockStart - 1) >> 1;
+        if (lastBit < firstBit) {
+            return count;
+        }
+        MappedByteBuffer region = region(block);
+        int offset = blockOffset(block);
+        for (int w = (int) (firstBit >>> 6); w <= (int) (lastBit >>> 6); w++) {
+            long word = region.getLong(offset + w * 8);
+            if (w == firstBit >>> 6) {
+                word &= -1L << firstBit;
+            }
+            if (w == lastBit >>> 6) {
+                word &= -1L >>> (63 - (lastBit & 63));
+            }
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private MappedByteBuffer region(long block) {
+        int r = (int) (block / REGION_BLOCKS);
+        synchronized (regions) {
+            if (regions[r] == null) {
+                long blocks = Math.min(REGION_BLOCKS, blockCount - (long) r * REGION_BLOCKS);
+                try {
+                    regions[r] = channel.map(FileChannel.MapMode.READ_WRITE,
+                            dataOffset + (long) r * REGION_BLOCKS * BLOCK_BYTES, blocks * BLOCK_BYTES);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Cannot map the prime index: " + e.getMessage(), e);
+                }
+            }
+            return regions[r];
+        }
+    }
+
+    private static int blockOffset(long block) {
+        return (int) (block % REGION_BLOCKS) * BLOCK_BYTES;
+    }
+
+    private void requireComplete(long block) {
+        if (!isBlockComplete(block)) {
+            throw new IllegalStateException("Block " + block + " (values " + block * BLOCK_SIZE + " to "
+                    + ((block + 1) * BLOCK_SIZE - 1) + ") has not been computed");
+        }
+    }
+
+    private void checkBlock(long block) {
+        if (block < 0 || block >= blockCount) {
+            throw new IllegalArgumentException("Block " + block + " is outside the index");
+        }
+    }
+
+    private void checkRange(long from, long to) {
+        if (from < 0 || to < from || to >= getCapacity()) {
+            throw new IllegalArgumentException("Range " + from + " to " + to + " is outside the index, which covers 0 to "
+                    + (getCapacity() - 1));
+        }
+    }
+}
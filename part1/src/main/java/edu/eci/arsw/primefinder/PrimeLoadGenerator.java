@@ -0,0 +1,182 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Load generator for a {@link PrimeServer}. Each connection sends a random mix of queries, keeping up to
+ * a fixed amount of requests in flight (pipelining), and measures the latency of every answer.
+ * At the end it reports the throughput in requests per second and the latency percentiles.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-29
+ */
+public class PrimeLoadGenerator {
+
+    private static final int SEPARATORS_NUMBER = 65;
+
+    private static int port = PrimeServer.DEFAULT_PORT;
+    private static int connections = 4;
+    private static int requestsPerConnection = 100000;
+    private static int pipelineDepth = 32;
+    private static int batchSize = 1;
+    private static long maxValue = 100000000;
+
+    /**
+     * Main method that runs the load and prints the report.
+     *
+     * @param args command line arguments, optionally {@code --port=N}, {@code --connections=N},
+     *             {@code --requests=N} (per connection), {@code --pipeline=N} (requests in flight per
+     *             connection), {@code --batch=N} (commands per request) and {@code --max=N} (largest queried value)
+     * @throws Exception if a connection fails
+     */
+    public static void main(String[] args) throws Exception {
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(value);
+            } else if (arg.startsWith("--connections=")) {
+                connections = Integer.parseInt(value);
+            } else if (arg.startsWith("--requests=")) {
+                requestsPerConnection = Integer.parseInt(value);
+            } else if (arg.startsWith("--pipeline=")) {
+                pipelineDepth = Integer.parseInt(value);
+            } else if (arg.startsWith("--batch=")) {
+                batchSize = Integer.parseInt(value);
+            } else if (arg.startsWith("--max=")) {
+                maxValue = Long.parseLong(value);
+            } else {
+                System.err.println("Unknown argument: " + arg);
+                return;
+            }
+        }
+
+        long[][] latencies = new long[connections][];
+        AtomicLong errors = new AtomicLong();
+        Thread[] clients = new Thread[connections];
+        long startTime = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            final int client = i;
+            final SplittableRandom random = new SplittableRandom(client);
+            clients[i] = new Thread(() -> {
+                try {
+                    latencies[client] = runConnection(random, errors);
+                } catch (IOException | InterruptedException e) {
+                    System.err.println("Connection " + client + " failed: " + e);
+                    latencies[client] = new long[0];
+                }
+            }, "load-client-" + i);
+            clients[i].start();
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.println("=".repeat(SEPARATORS_NUMBER));
+        System.out.println("Requests: " + all.length + " (" + batchSize + " commands each) over " + connections
+                + " connections, pipeline depth " + pipelineDepth);
+        System.out.println("Errors: " + errors.get());
+        System.out.printf("Throughput: %.0f requests/s%n", all.length / (elapsed / 1e9));
+        if (all.length > 0) {
+            System.out.printf("Latency: p50 %.1f us, p99 %.1f us, max %.1f us%n", percentile(all, 0.50) / 1e3,
+                    percentile(all, 0.99) / 1e3, all[all.length - 1] / 1e3);
+        }
+        System.out.println("=".repeat(SEPARATORS_NUMBER));
+    }
+
+    /**
+     * Sends the requests of one connection from this thread while a receiver thread reads the answers.
+     *
+     * @return the latency of each request in nanoseconds
+     */
+    private static long[] runConnection(SplittableRandom random, AtomicLong errors)
+            throws IOException, InterruptedException {
+        AtomicLongArray sentAt = new AtomicLongArray(requestsPerConnection);
+        long[] latencies = new long[requestsPerConnection];
+        Semaphore inFlight = new Semaphore(pipelineDepth);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            BufferedWriter out = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+
+            Thread receiver = new Thread(() -> {
+                try {
+                    for (int i = 0; i < requestsPerConnection; i++) {
+                        String answer = in.readLine();
+                        latencies[i] = System.nanoTime() - sentAt.get(i);
+                        inFlight.release();
+                        if (answer == null) {
+                            throw new IOException("Server closed the connection");
+                        }
+                        if (answer.contains("ERR")) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } catch (IOException e) {
+                    System.err.println("Receiver failed: " + e.getMessage());
+                    inFlight.release(requestsPerConnection);
+                }
+            }, Thread.currentThread().getName() + "-receiver");
+            receiver.start();
+
+            for (int i = 0; i < requestsPerConnection; i++) {
+                // Flush before blocking, so the requests already written can be answered
+                if (!inFlight.tryAcquire()) {
+                    out.flush();
+                    inFlight.acquire();
+                }
+                sentAt.set(i, System.nanoTime());
+                out.write(randomRequest(random));
+                out.newLine();
+            }
+            out.flush();
+            receiver.join();
+        }
+        return latencies;
+    }
+
+    /**
+     * Builds a request with a random mix of commands over [0, maxValue].
+     */
+    private static String randomRequest(SplittableRandom random) {
+        StringBuilder request = new StringBuilder();
+        for (int i = 0; i < batchSize; i++) {
+            if (i > 0) {
+                request.append(';');
+            }
+            long value = random.nextLong(maxValue + 1);
+            int kind = random.nextInt(10);
+            if (kind < 4) {
+                request.append("ISPRIME ").append(value);
+            } else if (kind < 7) {
+                request.append("NEXT ").append(value);
+            } else if (kind < 9) {
+                request.append("COUNT ").append(value).append(' ').append(value + random.nextInt(100000));
+            } else {
+                request.append("NTH ").append(1 + value / 20);
+            }
+        }
+        return request.toString();
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,316 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Asynchronous output pipeline for the primes found by the workers.
+ * Each worker writes into its own {@link Buffer} without any locking. Full buffers are handed
+ * to a dedicated writer thread that encodes them and writes them in large blocks through an NIO channel,
+ * so the workers never contend on the console. Buffers are recycled, so writing a prime does not allocate.
+ * <p>
+ * When writing to stdout each block is written while holding the System.out lock and ends at a line
+ * boundary, so lines printed with System.out (such as the progress report) never get mixed with primes.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.2
+ * @since 2025-09-12
+ */
+public class PrimeOutput {
+
+    private static final int BATCH_SIZE = 8192;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int BYTE_BUFFER_SIZE = 1 << 20;
+    private static final int MAX_LINE_LENGTH = 64;
+    private static final byte[] LINE_PREFIX = "Thread ".getBytes();
+    private static final byte[] LINE_MIDDLE = " found prime: ".getBytes();
+
+    private static final PrimeOutput SILENT = new PrimeOutput(OutputMode.SILENT, null, false, false);
+
+    private final OutputMode mode;
+    private final boolean wide;
+    private final WritableByteChannel channel;
+    private final boolean console;
+    private final BlockingQueue<Batch> pending = new ArrayBlockingQueue<Batch>(QUEUE_CAPACITY);
+    private final BlockingQueue<Batch> free = new ArrayBlockingQueue<Batch>(QUEUE_CAPACITY * 2);
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE);
+    private final byte[] digits = new byte[20];
+    private Thread writer;
+    private volatile IOException failure;
+
+    private PrimeOutput(OutputMode mode, WritableByteChannel channel, boolean console, boolean wide) {
+        this.mode = mode;
+        this.wide = wide;
+        this.channel = channel;
+        this.console = console;
+    }
+
+    /**
+     * Returns the output that discards every prime. It has no writer thread or state, so a single instance
+     * is shared, which keeps creating many short lived workers cheap.
+     * @return the silent output
+     */
+    public static PrimeOutput silent() {
+        return SILENT;
+    }
+
+    /**
+     * Creates an output that writes to the standard output.
+     *
+     * @param mode the output mode
+     * @param maxValue the largest prime that may be written, which sets the width of binary values
+     * @return an output already started
+     */
+    public static PrimeOutput toConsole(OutputMode mode, long maxValue) {
+        if (mode == OutputMode.SILENT) {
+            return silent();
+        }
+        PrimeOutput output = new PrimeOutput(mode,
+                Channels.newChannel(new FileOutputStream(FileDescriptor.out)), true, maxValue > Integer.MAX_VALUE);
+        output.start();
+        return output;
+    }
+
+    /**
+     * Creates an output that writes to a file, replacing its previous content.
+     *
+     * @param mode the output mode
+     * @param file the file to write
+     * @param maxValue the largest prime that may be written, which sets the width of binary values
+     * @return an output already started
+     * @throws IOException if the file cannot be opened
+     */
+    public static PrimeOutput toFile(OutputMode mode, Path file, long maxValue) throws IOException {
+        if (mode == OutputMode.SILENT) {
+            return silent();
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        PrimeOutput output = new PrimeOutput(mode, channel, false, maxValue > Integer.MAX_VALUE);
+        output.start();
+        return output;
+    }
+
+    private void start() {
+        writer = new Thread(this::drain, "prime-output-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Creates the buffer a worker uses to hand its primes to this output.
+     * Buffers must only be used by the thread that created them.
+     *
+     * @param threadId the identifier of the worker, written in text mode
+     * @return a new buffer
+     */
+    public Buffer newBuffer(int threadId) {
+        return new Buffer(threadId);
+    }
+
+    /**
+     * Returns the output mode.
+     * @return the mode of this output
+     */
+    public OutputMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Waits until every batch handed to the writer has been written and releases the channel.
+     * Buffers must have been flushed before calling this method.
+     *
+     * @throws IOException if any write failed
+     * @throws InterruptedException if interrupted while waiting for the writer
+     */
+    public void close() throws IOException, InterruptedException {
+        if (writer != null) {
+            pending.put(Batch.END);
+            writer.join();
+            if (!console) {
+                channel.close();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writer thread loop: takes the pending batches and writes them in large blocks.
+     */
+    private void drain() {
+        List<Batch> batches = new ArrayList<Batch>(QUEUE_CAPACITY);
+        try {
+            while (true) {
+                batches.add(pending.take());
+                pending.drainTo(batches);
+                boolean end = false;
+                for (Batch batch : batches) {
+                    if (batch == Batch.END) {
+                        end = true;
+                    } else {
+                        encode(batch);
+                        batch.count = 0;
+                        free.offer(batch);
+                    }
+                }
+                batches.clear();
+                flushBytes();
+                if (end) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            failure = e;
+            // Keep consuming so the workers are never blocked by a broken output
+            discardRemaining();
+        }
+    }
+
+    private void discardRemaining() {
+        try {
+            Batch batch;
+            while ((batch = pending.take()) != Batch.END) {
+                batch.count = 0;
+                free.offer(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void encode(Batch batch) throws IOException {
+        for (int i = 0; i < batch.count; i++) {
+            if (bytes.remaining() < MAX_LINE_LENGTH) {
+                flushBytes();
+            }
+            if (mode == OutputMode.BINARY && wide) {
+                bytes.putLong(batch.values[i]);
+            } else if (mode == OutputMode.BINARY) {
+                bytes.putInt((int) batch.values[i]);
+            } else {
+                bytes.put(LINE_PREFIX);
+                putDecimal(batch.threadId);
+                bytes.put(LINE_MIDDLE);
+                putDecimal(batch.values[i]);
+                bytes.put((byte) '\n');
+            }
+        }
+    }
+
+    private void putDecimal(long value) {
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        while (length > 0) {
+            bytes.put(digits[--length]);
+        }
+    }
+
+    private void flushBytes() throws IOException {
+        bytes.flip();
+        if (console) {
+            synchronized (System.out) {
+                System.out.flush();
+                writeFully();
+            }
+        } else {
+            writeFully();
+        }
+        bytes.clear();
+    }
+
+    private void writeFully() throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private Batch takeFreeBatch(int threadId) {
+        Batch batch = free.poll();
+        if (batch == null) {
+            batch = new Batch(BATCH_SIZE);
+        }
+        batch.threadId = threadId;
+        return batch;
+    }
+
+    /**
+     * Per worker buffer of primes waiting to be written.
+     */
+    public final class Buffer {
+
+        private final int threadId;
+        private Batch batch;
+
+        private Buffer(int threadId) {
+            this.threadId = threadId;
+        }
+
+        /**
+         * Adds a prime to the buffer, handing the buffer to the writer when it is full.
+         * If the thread is interrupted while waiting for the writer to catch up, the batch is dropped
+         * and the interrupt status is restored, so the next pause point stops the worker.
+         *
+         * @param prime the prime to write
+         */
+        public void add(long prime) {
+            if (mode == OutputMode.SILENT) {
+                return;
+            }
+            if (batch == null) {
+                batch = takeFreeBatch(threadId);
+            }
+            batch.values[batch.count++] = prime;
+            if (batch.count == batch.values.length) {
+                flush();
+            }
+        }
+
+        /**
+         * Hands the buffered primes to the writer, even if the buffer is not full.
+         */
+        public void flush() {
+            if (batch != null && batch.count > 0) {
+                try {
+                    pending.put(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                batch = null;
+            }
+        }
+    }
+
+    /**
+     * Block of primes of a single worker.
+     */
+    private static final class Batch {
+
+        static final Batch END = new Batch(0);
+
+        final long[] values;
+        int count;
+        int threadId;
+
+        Batch(int size) {
+            values = new long[size];
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Strategy used by the worker threads to find the prime numbers of a range of non negative longs.
+ * Implementations must be stateless (or share only immutable state) so a single
+ * instance can be used by every worker at the same time.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-05
+ */
+public interface PrimeSearchEngine {
+
+    /**
+     * Finds every prime number within the given range, in ascending order.
+     * Implementations must call {@link ThreadController#checkPausePoint()} periodically
+     * so the search can be paused and resumed.
+     *
+     * @param startRange the starting value of the range (inclusive)
+     * @param endRange the ending value of the range (inclusive)
+     * @param controller the thread controller for pause/resume functionality
+     * @param primeConsumer receives each prime number found
+     * @throws InterruptedException if the thread is interrupted while paused
+     */
+    void search(long startRange, long endRange, ThreadController controller, LongConsumer primeConsumer)
+            throws InterruptedException;
+
+    /**
+     * Returns a short human readable name of the engine.
+     * @return the engine name
+     */
+    String getName();
+}
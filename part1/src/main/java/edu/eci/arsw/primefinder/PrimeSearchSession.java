@@ -0,0 +1,211 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Incremental search that keeps its results between calls: after searching up to some value, extending it
+ * to a larger bound only searches the new interval, with the same worker model as Main, and appends the
+ * new primes to the existing results.
+ * <pre>{@code
+ * PrimeSearchSession session = new PrimeSearchSession(0, 4);
+ * session.extendTo(30_000_000);
+ * session.extendTo(31_000_000); // only searches 30,000,001 to 31,000,000
+ * int count = session.getPrimes().countInRange(0, 31_000_000);
+ * }</pre>
+ * The table of base primes of the sieve is kept too, and rebuilt with some headroom only when a new
+ * bound goes beyond what it covers. Extensions are serialized; queries can run at any time from other
+ * threads and see the primes of every completed extension. An extension whose workers fail or are
+ * interrupted appends nothing and leaves the frontier where it was, so it can simply be retried.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-03
+ */
+public class PrimeSearchSession {
+
+    // Base primes are built for up to 4 times the requested bound, which doubles their limit
+    private static final long BASE_PRIMES_HEADROOM = 4;
+    private static final long MAX_HEADROOM_VALUE = 1L << 40;
+
+    private final long startValue;
+    private final int threadCount;
+    private final EngineType engineType;
+    private final ThreadController controller = new ThreadController();
+    private final CompositePrimeStore primes = new CompositePrimeStore();
+    private volatile long frontier;
+    private volatile SearchMetrics metrics;
+    private BasePrimes basePrimes;
+    private PrimeSearchEngine sieveEngine;
+
+    /**
+     * Creates an empty session whose engine is chosen for each extension, as Main does.
+     *
+     * @param startValue first value of the search (inclusive)
+     * @param threadCount amount of workers of each extension
+     */
+    public PrimeSearchSession(long startValue, int threadCount) {
+        this(startValue, threadCount, null);
+    }
+
+    /**
+     * Creates an empty session that always searches with the given engine.
+     *
+     * @param startValue first value of the search (inclusive)
+     * @param threadCount amount of workers of each extension
+     * @param engineType the engine, or null to use the default one for each new bound
+     */
+    public PrimeSearchSession(long startValue, int threadCount, EngineType engineType) {
+        if (startValue < 0 || threadCount < 1) {
+            throw new IllegalArgumentException("Need a non negative start and at least one thread");
+        }
+        this.startValue = startValue;
+        this.threadCount = threadCount;
+        this.engineType = engineType;
+        this.frontier = startValue - 1;
+        this.metrics = new SearchMetrics(0, new WorkerMetrics[0]);
+    }
+
+    /**
+     * Searches the values between the current frontier and the new bound, and appends their primes.
+     * Does nothing if the bound is not beyond the frontier.
+     *
+     * @param newMax the new last value of the search (inclusive)
+     * @return the primes of the whole search, from the start value to the new bound
+     * @throws InterruptedException if interrupted while waiting for the workers, which are interrupted too
+     * @throws IllegalStateException if a worker fails or is interrupted; the frontier does not move
+     */
+    public synchronized PrimeStore extendTo(long newMax) throws InterruptedException {
+        long from = frontier + 1;
+        if (newMax < from) {
+            return primes;
+        }
+        EngineType type = engineType != null ? engineType : EngineType.defaultFor(newMax);
+        PrimeSearchEngine engine = engineFor(type, newMax);
+
+        RangeScheduler scheduler = new RangeScheduler(from, newMax);
+        PrimeFinderThread[] workers = new PrimeFinderThread[threadCount];
+        WorkerMetrics[] workerMetrics = new WorkerMetrics[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            workers[i] = new PrimeFinderThread(i + 1, scheduler, controller, engine, PrimeOutput.silent());
+            workerMetrics[i] = workers[i].getMetrics();
+        }
+        SearchMetrics extension = new SearchMetrics(scheduler.getPendingNumberCount(), workerMetrics,
+                from - startValue, primes.size());
+        metrics = extension;
+        extension.start();
+        for (PrimeFinderThread worker : workers) {
+            worker.start();
+        }
+        try {
+            for (PrimeFinderThread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            for (PrimeFinderThread worker : workers) {
+                worker.interrupt();
+            }
+            throw e;
+        }
+        extension.finish();
+
+        for (PrimeFinderThread worker : workers) {
+            Throwable failure = worker.getTask().getFailure();
+            if (failure != null) {
+                throw new IllegalStateException("Extension from " + from + " to " + newMax + " failed in worker "
+                        + worker.getThreadId() + ", the frontier stays at " + frontier, failure);
+            }
+        }
+        primes.append(merge(workers, newMax));
+        frontier = newMax;
+        return primes;
+    }
+
+    /**
+     * Returns the primes found so far, a live view that grows with each extension.
+     * @return the primes from the start value to the frontier, in ascending order
+     */
+    public PrimeStore getPrimes() {
+        return primes;
+    }
+
+    /**
+     * Returns the last value searched so far.
+     * @return the frontier, or the start value minus one before the first extension
+     */
+    public long getFrontier() {
+        return frontier;
+    }
+
+    /**
+     * Returns the first value of the search.
+     * @return the start value
+     */
+    public long getStartValue() {
+        return startValue;
+    }
+
+    /**
+     * Returns the progress of the running or last extension, with totals that include the previous ones.
+     * @return the metrics of the whole session
+     */
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the controller shared by the workers of every extension, to pause and resume them.
+     * @return the thread controller
+     */
+    public ThreadController getController() {
+        return controller;
+    }
+
+    /**
+     * Returns the engine for the given bound, reusing the sieve and its base primes while they cover it.
+     */
+    private PrimeSearchEngine engineFor(EngineType type, long newMax) {
+        if (type != EngineType.SIEVE) {
+            return type.create(newMax);
+        }
+        if (basePrimes == null || (long) basePrimes.getLimit() * basePrimes.getLimit() < newMax) {
+            long headroom = Math.max(newMax,
+                    Math.min(newMax, MAX_HEADROOM_VALUE / BASE_PRIMES_HEADROOM) * BASE_PRIMES_HEADROOM);
+            basePrimes = BasePrimes.forMaxValue(headroom);
+            sieveEngine = new SegmentedSieveEngine(basePrimes);
+        }
+        return sieveEngine;
+    }
+
+    /**
+     * Merges the primes of the workers, each one ascending but with chunks interleaved with the others,
+     * into a single ascending store.
+     *
+     * @throws IllegalStateException if the interval holds more primes than a store can index
+     */
+    private static PrimeStore merge(PrimeFinderThread[] workers, long maxValue) {
+        PrimitiveIterator.OfLong[] iterators = new PrimitiveIterator.OfLong[workers.length];
+        long[] heads = new long[workers.length];
+        long total = 0;
+        for (int i = 0; i < workers.length; i++) {
+            iterators[i] = workers[i].getPrimes().iterator();
+            heads[i] = iterators[i].hasNext() ? iterators[i].nextLong() : Long.MAX_VALUE;
+            total += workers[i].getPrimes().size();
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The extension found " + total + " primes, more than a store can hold");
+        }
+        PrimeStore merged = maxValue <= Integer.MAX_VALUE ? new IntArrayPrimeStore((int) total)
+                : new LongArrayPrimeStore((int) total);
+        for (long added = 0; added < total; added++) {
+            int min = 0;
+            for (int i = 1; i < heads.length; i++) {
+                if (heads[i] < heads[min]) {
+                    min = i;
+                }
+            }
+            merged.add(heads[min]);
+            heads[min] = iterators[min].hasNext() ? iterators[min].nextLong() : Long.MAX_VALUE;
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,364 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of the primes of fixed size segments of the 64-bit range, with LRU eviction.
+ * It answers range queries (count, n-th prime, next prime) from the cached segments, and computes a
+ * missing segment on the calling thread, so misses run on whichever worker pool queries the cache.
+ * Concurrent misses of the same segment are computed only once: the other callers wait for the result.
+ * <p>
+ * The amount of primes of every computed segment is kept after the segment is evicted, and the counts of
+ * the segments computed from 0 onwards are accumulated into pi(x) checkpoints at every segment boundary.
+ * Counting across known segments and finding the n-th prime below the last checkpoint therefore never
+ * sieve again. Each query may compute at most a bounded amount of segments, so a single request cannot
+ * keep a worker busy without limit.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-29
+ */
+public class PrimeSegmentCache {
+
+    /**
+     * Amount of numbers covered by each cached segment.
+     */
+    public static final long SEGMENT_SPAN = 1 << 20;
+
+    /**
+     * Default amount of segments kept in memory.
+     */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    /**
+     * Default maximum amount of segments a single query may compute.
+     */
+    public static final int DEFAULT_MAX_SEGMENTS_PER_QUERY = 256;
+
+    private static final long LAST_SEGMENT = Long.MAX_VALUE / SEGMENT_SPAN;
+
+    // Maximum amount of segment counts kept that are not contiguous with the pi(x) checkpoints
+    private static final int MAX_DETACHED_COUNTS = 1 << 16;
+
+    private final Map<Long, CompletableFuture<int[]>> segments;
+    private final PrimeSearchEngine sieveEngine = EngineType.SIEVE.create(Integer.MAX_VALUE);
+    private final PrimeSearchEngine millerRabinEngine = EngineType.MILLER_RABIN.create(Long.MAX_VALUE);
+    private final ThreadController controller = new ThreadController();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final int maxSegmentsPerQuery;
+
+    // piCheckpoints[k] is the amount of primes below k * SEGMENT_SPAN, for k up to knownSegments
+    private final Object countsLock = new Object();
+    private long[] piCheckpoints = new long[1024];
+    private int knownSegments = 0;
+    // Prime counts of computed segments that are not contiguous with the checkpoints yet
+    private final Map<Long, Integer> segmentCounts = new HashMap<Long, Integer>();
+
+    /**
+     * Creates a cache that keeps at most the given amount of segments.
+     *
+     * @param capacity the maximum amount of cached segments
+     */
+    public PrimeSegmentCache(final int capacity) {
+        this(capacity, DEFAULT_MAX_SEGMENTS_PER_QUERY);
+    }
+
+    /**
+     * Creates a cache that keeps at most the given amount of segments and bounds the work of each query.
+     *
+     * @param capacity the maximum amount of cached segments
+     * @param maxSegmentsPerQuery the most segments a single query may compute; a query that needs more fails
+     */
+    public PrimeSegmentCache(final int capacity, int maxSegmentsPerQuery) {
+        if (capacity <= 0 || maxSegmentsPerQuery <= 0) {
+            throw new IllegalArgumentException("Capacity and segments per query must be positive");
+        }
+        this.maxSegmentsPerQuery = maxSegmentsPerQuery;
+        // Access ordered, so the eldest entry is always the least recently used segment
+        this.segments = new LinkedHashMap<Long, CompletableFuture<int[]>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CompletableFuture<int[]>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Tells whether a number is prime. Single numbers are tested directly with Miller-Rabin,
+     * which is much cheaper than sieving the segment around them.
+     *
+     * @param number the number to test
+     * @return true if the number is prime
+     */
+    public boolean isPrime(long number) {
+        return MillerRabin.isPrime(number);
+    }
+
+    /**
+     * Counts the primes in [from, to]. Whole segments below the last pi(x) checkpoint are counted at once,
+     * and other whole segments computed before are counted without looking at their primes.
+     *
+     * @param from the first value of the range (inclusive)
+     * @param to the last value of the range (inclusive)
+     * @return the amount of primes in the range
+     * @throws InterruptedException if the thread is interrupted while waiting for a segment
+     * @throws IllegalArgumentException if the range needs more segments than a query may compute
+     */
+    public long countPrimes(long from, long to) throws InterruptedException {
+        from = Math.max(from, 0);
+        if (from > to) {
+            return 0;
+        }
+        int[] budget = {0};
+        long count = 0;
+        long lastIndex = to / SEGMENT_SPAN;
+        // Last segment whose whole span is inside the range
+        long lastWhole = to == Long.MAX_VALUE ? LAST_SEGMENT : (to + 1) / SEGMENT_SPAN - 1;
+        long index = from / SEGMENT_SPAN;
+        while (index <= lastIndex) {
+            long start = index * SEGMENT_SPAN;
+            boolean whole = start >= from && index <= lastWhole;
+            if (whole) {
+                synchronized (countsLock) {
+                    if (index < knownSegments) {
+                        int next = (int) Math.min(lastWhole + 1, knownSegments);
+                        count += piCheckpoints[next] - piCheckpoints[(int) index];
+                        index = next;
+                        continue;
+                    }
+                    Integer known = segmentCounts.get(index);
+                    if (known != null) {
+                        count += known;
+                        index++;
+                        continue;
+                    }
+                }
+            }
+            int[] offsets = getSegment(index, budget);
+            int low = (int) (Math.max(from, start) - start);
+            int high = (int) (Math.min(to, start + SEGMENT_SPAN - 1) - start);
+            count += upperBound(offsets, high) - upperBound(offsets, low - 1);
+            index++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the n-th prime, counting 2 as the first one. The search starts at the last pi(x) checkpoint
+     * below n, so only the segment holding the prime and the segments beyond the checkpoints are read.
+     *
+     * @param n the position of the prime, starting at 1
+     * @return the n-th prime
+     * @throws InterruptedException if the thread is interrupted while waiting for a segment
+     * @throws IllegalArgumentException if reaching the prime needs more segments than a query may compute
+     */
+    public long nthPrime(long n) throws InterruptedException {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Position must be positive: " + n);
+        }
+        long index;
+        long remaining;
+        synchronized (countsLock) {
+            // Last checkpoint with less than n primes below it
+            int low = 0;
+            int high = knownSegments;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (piCheckpoints[middle] < n) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            index = low;
+            remaining = n - piCheckpoints[low];
+        }
+        int[] budget = {0};
+        for (; index <= LAST_SEGMENT; index++) {
+            Integer known;
+            synchronized (countsLock) {
+                known = segmentCounts.get(index);
+            }
+            if (known != null && remaining > known) {
+                remaining -= known;
+                continue;
+            }
+            int[] offsets = getSegment(index, budget);
+            if (remaining <= offsets.length) {
+                return index * SEGMENT_SPAN + offsets[(int) remaining - 1];
+            }
+            remaining -= offsets.length;
+        }
+        throw new NoSuchElementException("There are less than " + n + " primes below 2^63");
+    }
+
+    /**
+     * Returns the smallest prime greater than the given number.
+     *
+     * @param number the lower bound (exclusive)
+     * @return the next prime
+     * @throws InterruptedException if the thread is interrupted while waiting for a segment
+     */
+    public long nextPrime(long number) throws InterruptedException {
+        if (number < 2) {
+            return 2;
+        }
+        int[] budget = {0};
+        for (long index = number / SEGMENT_SPAN; index <= LAST_SEGMENT; index++) {
+            long start = index * SEGMENT_SPAN;
+            int[] offsets = getSegment(index, budget);
+            int next = upperBound(offsets, (int) (Math.max(number, start - 1) - start));
+            if (next < offsets.length) {
+                return start + offsets[next];
+            }
+        }
+        throw new NoSuchElementException("No prime after " + number + " below 2^63");
+    }
+
+    /**
+     * Returns the value of the last pi(x) checkpoint: every prime below it has been counted.
+     * @return the limit of the checkpoints
+     */
+    public long getCheckpointLimit() {
+        synchronized (countsLock) {
+            return knownSegments * SEGMENT_SPAN;
+        }
+    }
+
+    /**
+     * Returns the amount of segment lookups answered from the cache.
+     * @return the cache hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the amount of segments that had to be computed.
+     * @return the cache misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the amount of segments currently cached.
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (segments) {
+            return segments.size();
+        }
+    }
+
+    /**
+     * Returns the offsets of the primes of a segment from its start, computing the segment if needed.
+     *
+     * @param budget amount of segments the calling query has computed so far, updated by this call
+     * @throws IllegalArgumentException if the segment must be computed and the query has no budget left
+     */
+    private int[] getSegment(long index, int[] budget) throws InterruptedException {
+        CompletableFuture<int[]> segment;
+        boolean owner = false;
+        synchronized (segments) {
+            segment = segments.get(index);
+            if (segment == null) {
+                if (budget[0] >= maxSegmentsPerQuery) {
+                    throw new IllegalArgumentException("query needs more than " + maxSegmentsPerQuery
+                            + " uncached segments of " + SEGMENT_SPAN + " numbers; primes are counted up to "
+                            + getCheckpointLimit());
+                }
+                budget[0]++;
+                segment = new CompletableFuture<int[]>();
+                segments.put(index, segment);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            misses.incrementAndGet();
+            try {
+                int[] offsets = computeSegment(index);
+                recordCount(index, offsets.length);
+                segment.complete(offsets);
+            } catch (RuntimeException | InterruptedException e) {
+                synchronized (segments) {
+                    segments.remove(index);
+                }
+                segment.completeExceptionally(e);
+                throw e;
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+        return segment.join();
+    }
+
+    /**
+     * Keeps the amount of primes of a computed segment, and moves the pi(x) checkpoints forward over
+     * every segment that is now contiguous with them.
+     */
+    private void recordCount(long index, int count) {
+        synchronized (countsLock) {
+            if (index < knownSegments) {
+                return;
+            }
+            if (index > knownSegments && segmentCounts.size() >= MAX_DETACHED_COUNTS) {
+                // Only counts that can still join the checkpoints soon are worth keeping beyond this
+                return;
+            }
+            segmentCounts.put(index, count);
+            Integer next;
+            while ((next = segmentCounts.remove((long) knownSegments)) != null) {
+                if (knownSegments + 1 == piCheckpoints.length) {
+                    piCheckpoints = Arrays.copyOf(piCheckpoints, piCheckpoints.length * 2);
+                }
+                piCheckpoints[knownSegments + 1] = piCheckpoints[knownSegments] + next;
+                knownSegments++;
+            }
+        }
+    }
+
+    /**
+     * Sieves a whole segment, with the segmented sieve while it fits in an int and Miller-Rabin beyond.
+     */
+    private int[] computeSegment(long index) throws InterruptedException {
+        final long start = index * SEGMENT_SPAN;
+        long end = start + (SEGMENT_SPAN - 1);
+        final int[][] offsets = {new int[1024]};
+        final int[] count = {0};
+        PrimeSearchEngine engine = end <= Integer.MAX_VALUE ? sieveEngine : millerRabinEngine;
+        engine.search(start, end, controller, prime -> {
+            if (count[0] == offsets[0].length) {
+                offsets[0] = Arrays.copyOf(offsets[0], count[0] * 2);
+            }
+            offsets[0][count[0]++] = (int) (prime - start);
+        });
+        return Arrays.copyOf(offsets[0], count[0]);
+    }
+
+    /**
+     * Returns the amount of offsets less than or equal to the given value.
+     */
+    private static int upperBound(int[] offsets, int value) {
+        int low = 0;
+        int high = offsets.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (offsets[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
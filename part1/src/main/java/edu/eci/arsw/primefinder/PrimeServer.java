@@ -0,0 +1,306 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local server that answers prime queries from other processes over a line based TCP protocol,
+ * bound to the loopback interface only.
+ * <p>
+ * Each request line holds one or more commands separated by {@code ;}, and is answered with one line
+ * holding the results in the same order, also separated by {@code ;}:
+ * <ul>
+ *     <li>{@code ISPRIME n}: {@code true} or {@code false}</li>
+ *     <li>{@code COUNT a b}: amount of primes in [a, b]</li>
+ *     <li>{@code NTH k}: the k-th prime, {@code NTH 1} being 2</li>
+ *     <li>{@code NEXT n}: the smallest prime greater than n</li>
+ *     <li>{@code STATS}: cache hits, misses and size</li>
+ * </ul>
+ * A failed command is answered with {@code ERR} and a message. A command that would compute more than
+ * {@code --max-segments-per-query} uncached segments fails instead of tying up its worker. Clients may pipeline any amount of
+ * requests without waiting for the answers: each line is handed to the worker pool as soon as it is
+ * read, and a writer thread per connection sends the answers back in request order.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-29
+ */
+public class PrimeServer implements Closeable {
+
+    /**
+     * Default port of the server.
+     */
+    public static final int DEFAULT_PORT = 7919;
+
+    /**
+     * Maximum amount of requests of a connection being computed or waiting to be written.
+     */
+    private static final int MAX_PENDING_REQUESTS = 1024;
+
+    private static final Future<String> END_OF_REQUESTS = CompletableFuture.completedFuture(null);
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService workers;
+    private final PrimeSegmentCache cache;
+
+    /**
+     * Creates a server listening on the loopback interface.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @param threadCount amount of worker threads that answer the queries
+     * @param cacheSegments maximum amount of segments kept in the cache
+     * @throws IOException if the port cannot be bound
+     */
+    public PrimeServer(int port, int threadCount, int cacheSegments) throws IOException {
+        this(port, threadCount, cacheSegments, PrimeSegmentCache.DEFAULT_MAX_SEGMENTS_PER_QUERY);
+    }
+
+    /**
+     * Creates a server listening on the loopback interface that bounds the work of each command.
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @param threadCount amount of worker threads that answer the queries
+     * @param cacheSegments maximum amount of segments kept in the cache
+     * @param maxSegmentsPerQuery maximum amount of uncached segments a single command may compute
+     * @throws IOException if the port cannot be bound
+     */
+    public PrimeServer(int port, int threadCount, int cacheSegments, int maxSegmentsPerQuery) throws IOException {
+        this.cache = new PrimeSegmentCache(cacheSegments, maxSegmentsPerQuery);
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.workers = Executors.newFixedThreadPool(threadCount, namedThreads("prime-worker-"));
+    }
+
+    /**
+     * Main method that starts a server and serves clients until the process is stopped.
+     *
+     * @param args command line arguments, optionally {@code --port=N}, {@code --threads=N},
+     *             {@code --cache-segments=N} and {@code --max-segments-per-query=N}
+     */
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        int cacheSegments = PrimeSegmentCache.DEFAULT_CAPACITY;
+        int maxSegmentsPerQuery = PrimeSegmentCache.DEFAULT_MAX_SEGMENTS_PER_QUERY;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            try {
+                if (arg.startsWith("--port=")) {
+                    port = Integer.parseInt(value);
+                } else if (arg.startsWith("--threads=")) {
+                    threadCount = Integer.parseInt(value);
+                } else if (arg.startsWith("--cache-segments=")) {
+                    cacheSegments = Integer.parseInt(value);
+                } else if (arg.startsWith("--max-segments-per-query=")) {
+                    maxSegmentsPerQuery = Integer.parseInt(value);
+                } else {
+                    System.err.println("Unknown argument: " + arg);
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("Expected an integer in: " + arg);
+                return;
+            }
+        }
+
+        try (PrimeServer server = new PrimeServer(port, threadCount, cacheSegments, maxSegmentsPerQuery)) {
+            System.out.println("Prime server listening on " + server.serverSocket.getLocalSocketAddress() + " with "
+                    + threadCount + " workers and " + cacheSegments + " cached segments of "
+                    + PrimeSegmentCache.SEGMENT_SPAN + " numbers, at most " + maxSegmentsPerQuery
+                    + " computed per command");
+            server.serve();
+        } catch (IOException e) {
+            System.err.println("Prime server stopped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Accepts clients until the server is closed, serving each one on its own reader and writer threads.
+     *
+     * @throws IOException if accepting a client fails for a reason other than closing the server
+     */
+    public void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            final Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            socket.setTcpNoDelay(true);
+            Thread reader = new Thread(() -> handle(socket), "prime-client-" + socket.getPort());
+            reader.setDaemon(true);
+            reader.start();
+        }
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     * @return the local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting clients and stops the worker threads.
+     *
+     * @throws IOException if closing the server socket fails
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Reads the requests of a client and submits them to the workers, while a writer thread sends the
+     * answers back in order. The bounded queue stops reading when a client has too many requests pending.
+     */
+    private void handle(Socket socket) {
+        BlockingQueue<Future<String>> pending = new ArrayBlockingQueue<Future<String>>(MAX_PENDING_REQUESTS);
+        Thread writer = new Thread(() -> writeAnswers(socket, pending), Thread.currentThread().getName() + "-writer");
+        writer.setDaemon(true);
+        writer.start();
+        // The reader is not closed here: closing it would close the socket before the last answers are written
+        try {
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String line;
+            while ((line = in.readLine()) != null) {
+                final String request = line;
+                pending.put(workers.submit(() -> answer(request)));
+            }
+        } catch (IOException e) {
+            // The client closed the connection; answers still pending are discarded by the writer
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                pending.put(END_OF_REQUESTS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Writes the answers of a client in request order, flushing whenever no further answer is pending.
+     */
+    private static void writeAnswers(Socket socket, BlockingQueue<Future<String>> pending) {
+        try (Socket client = socket;
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(client.getOutputStream(), StandardCharsets.US_ASCII))) {
+            Future<String> answer;
+            while ((answer = pending.take()) != END_OF_REQUESTS) {
+                try {
+                    out.write(answer.get());
+                } catch (ExecutionException e) {
+                    out.write("ERR " + e.getCause());
+                }
+                out.newLine();
+                if (pending.isEmpty()) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // The client went away; nothing else to answer
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Answers a request line, executing its commands in order.
+     *
+     * @param request the request line
+     * @return the answer line
+     */
+    private String answer(String request) {
+        String[] commands = request.split(";");
+        StringBuilder answer = new StringBuilder();
+        for (int i = 0; i < commands.length; i++) {
+            if (i > 0) {
+                answer.append(';');
+            }
+            try {
+                answer.append(execute(commands[i].trim().split("\\s+")));
+            } catch (IllegalArgumentException | NoSuchElementException e) {
+                answer.append("ERR ").append(e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                answer.append("ERR interrupted");
+            }
+        }
+        return answer.toString();
+    }
+
+    /**
+     * Executes a single command.
+     */
+    private String execute(String[] command) throws InterruptedException {
+        switch (command[0].toUpperCase(Locale.ROOT)) {
+            case "ISPRIME":
+                return String.valueOf(cache.isPrime(argument(command, 1, 1)));
+            case "COUNT":
+                return String.valueOf(cache.countPrimes(argument(command, 1, 2), argument(command, 2, 2)));
+            case "NTH":
+                return String.valueOf(cache.nthPrime(argument(command, 1, 1)));
+            case "NEXT":
+                return String.valueOf(cache.nextPrime(argument(command, 1, 1)));
+            case "STATS":
+                return "hits=" + cache.getHits() + " misses=" + cache.getMisses() + " segments=" + cache.size()
+                        + " counted=" + cache.getCheckpointLimit();
+            default:
+                throw new IllegalArgumentException("unknown command '" + command[0]
+                        + "', expected ISPRIME, COUNT, NTH, NEXT or STATS");
+        }
+    }
+
+    /**
+     * Parses the numeric argument at a position of a command that takes the given amount of arguments.
+     */
+    private static long argument(String[] command, int position, int expected) {
+        if (command.length != expected + 1) {
+            throw new IllegalArgumentException(command[0] + " expects " + expected + " argument(s)");
+        }
+        try {
+            return Long.parseLong(command[position]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: " + command[position]);
+        }
+    }
+
+    /**
+     * Creates a factory of daemon threads with the given name prefix.
+     */
+    static ThreadFactory namedThreads(final String prefix) {
+        final AtomicInteger next = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + next.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Lazy spliterator over the primes of a range, computed one sieve segment at a time.
+ * Splits always fall on segment boundaries, so every part sieves whole segments, and
+ * {@link #tryAdvance} only sieves the next segment once the primes of the previous one are consumed,
+ * which keeps memory bounded by the segment size and lets short-circuiting operations stop early.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-27
+ */
+class PrimeSpliterator implements Spliterator.OfLong {
+
+    /**
+     * Amount of numbers covered by one segment: the odd numbers of a sieve segment plus the even ones.
+     */
+    static final long SEGMENT_SPAN = 2L * SegmentedSieveEngine.DEFAULT_SEGMENT_SIZE;
+
+    private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+
+    private final PrimeSearchEngine engine;
+    private final ThreadController controller;
+    private final long endRange;
+    private long next;
+    private boolean exhausted;
+
+    private final long[] buffer = new long[(int) (SEGMENT_SPAN / 2) + 1];
+    private int bufferIndex;
+    private int bufferSize;
+
+    /**
+     * Creates a spliterator over the primes in [startRange, endRange].
+     *
+     * @param engine engine used to search each segment, shared by every split
+     * @param controller controller passed to the engine, never paused
+     * @param startRange first value of the range (inclusive)
+     * @param endRange last value of the range (inclusive)
+     */
+    PrimeSpliterator(PrimeSearchEngine engine, ThreadController controller, long startRange, long endRange) {
+        this.engine = engine;
+        this.controller = controller;
+        this.next = startRange;
+        this.endRange = endRange;
+        this.exhausted = startRange > endRange;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        while (bufferIndex == bufferSize) {
+            if (exhausted) {
+                return false;
+            }
+            bufferIndex = 0;
+            bufferSize = 0;
+            long high = segmentEnd();
+            search(next, high, prime -> buffer[bufferSize++] = prime);
+            advancePast(high);
+        }
+        action.accept(buffer[bufferIndex++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (bufferIndex < bufferSize) {
+            action.accept(buffer[bufferIndex++]);
+        }
+        if (!exhausted) {
+            exhausted = true;
+            search(next, endRange, action);
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        // Primes already buffered precede the rest of the range, so they cannot be handed off
+        if (exhausted || bufferIndex < bufferSize) {
+            return null;
+        }
+        long middle = (next + (endRange - next) / 2) / SEGMENT_SPAN * SEGMENT_SPAN;
+        if (middle <= next) {
+            return null;
+        }
+        PrimeSpliterator prefix = new PrimeSpliterator(engine, controller, next, middle - 1);
+        next = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (exhausted) {
+            return bufferSize - bufferIndex;
+        }
+        // Prime number theorem: about n / ln(n) primes among n numbers of this magnitude
+        double numbers = (double) (endRange - next) + 1;
+        return (long) (numbers / Math.log(Math.max(endRange, 3))) + bufferSize - bufferIndex;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+
+    /**
+     * Returns the end of the segment starting at the next value, aligned to a multiple of the segment span.
+     */
+    private long segmentEnd() {
+        long segmentStart = next / SEGMENT_SPAN * SEGMENT_SPAN;
+        return endRange - segmentStart < SEGMENT_SPAN ? endRange : segmentStart + SEGMENT_SPAN - 1;
+    }
+
+    private void advancePast(long high) {
+        if (high == endRange) {
+            exhausted = true;
+        } else {
+            next = high + 1;
+        }
+    }
+
+    private void search(long low, long high, LongConsumer action) {
+        try {
+            engine.search(low, high, controller, action);
+        } catch (InterruptedException e) {
+            // The controller is never paused; stop quietly and keep the interrupt for the caller
+            exhausted = true;
+            Thread.currentThread().interrupt();
+        }
+    }
+}
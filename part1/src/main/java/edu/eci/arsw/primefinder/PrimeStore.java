@@ -0,0 +1,78 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Compact storage for the prime numbers found by a worker.
+ * Primes are added in ascending order by a single writer thread, which lets implementations
+ * keep them in primitive structures and answer range queries with a binary search.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-10
+ */
+public interface PrimeStore {
+
+    /**
+     * Creates the most compact store able to hold primes up to the given value.
+     *
+     * @param maxValue the largest value that may be stored
+     * @return an int backed store when every value fits in an int, a long backed store otherwise
+     */
+    static PrimeStore forMaxValue(long maxValue) {
+        return maxValue <= Integer.MAX_VALUE ? new IntArrayPrimeStore() : new LongArrayPrimeStore();
+    }
+
+    /**
+     * Appends a prime number. Values must be added in ascending order.
+     *
+     * @param prime the prime number to store
+     */
+    void add(long prime);
+
+    /**
+     * Returns the amount of stored primes.
+     * It may be called from another thread while the owner is still adding values,
+     * in which case the result can be slightly behind.
+     *
+     * @return the number of stored primes
+     */
+    int size();
+
+    /**
+     * Returns the prime at the given position.
+     *
+     * @param index the position of the prime, from 0 to size() - 1
+     * @return the stored prime
+     */
+    long get(int index);
+
+    /**
+     * Counts the stored primes within the given range.
+     *
+     * @param from the starting value of the range (inclusive)
+     * @param to the ending value of the range (inclusive)
+     * @return the number of stored primes p such that from &lt;= p &lt;= to
+     */
+    int countInRange(long from, long to);
+
+    /**
+     * Passes every stored prime, in ascending order, to the given consumer.
+     *
+     * @param consumer receives each prime
+     */
+    void forEach(LongConsumer consumer);
+
+    /**
+     * Returns an iterator over the stored primes that does not box the values.
+     * @return a primitive iterator in ascending order
+     */
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Copies the stored primes into a new array.
+     * @return an array with every stored prime in ascending order
+     */
+    long[] toArray();
+}
@@ -0,0 +1,55 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Library entry point to the primes of a range as lazily evaluated streams.
+ * Primes are computed segment by segment while the stream is consumed, in ascending order;
+ * {@code .parallel()} spreads the segments across the common fork/join pool, and operations such as
+ * {@code findFirst} or {@code limit} stop computing as soon as they have their answer.
+ * <pre>{@code
+ * long count = Primes.stream(0, 30_000_000).parallel().count();
+ * long next = Primes.stream(1_000_000_000_000_000L, Long.MAX_VALUE).findFirst().getAsLong();
+ * }</pre>
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-27
+ */
+public final class Primes {
+
+    private Primes() {
+    }
+
+    /**
+     * Returns the primes in [from, to] as a sequential stream, empty when from is greater than to.
+     * The engine is the default one for the range: the segmented sieve up to {@link Integer#MAX_VALUE},
+     * Miller-Rabin beyond it.
+     *
+     * @param from first value of the range (inclusive)
+     * @param to last value of the range (inclusive)
+     * @return a lazy stream of the primes in the range, in ascending order
+     * @throws IllegalArgumentException if from is negative
+     */
+    public static LongStream stream(long from, long to) {
+        if (from < 0) {
+            throw new IllegalArgumentException("Range must not be negative: " + from);
+        }
+        PrimeSearchEngine engine = EngineType.defaultFor(to).create(Math.max(to, 0));
+        return StreamSupport.longStream(new PrimeSpliterator(engine, new ThreadController(), from, to), false);
+    }
+
+    /**
+     * Returns the primes in [from, to] as a sequential stream of ints, empty when from is greater than to.
+     *
+     * @param from first value of the range (inclusive)
+     * @param to last value of the range (inclusive)
+     * @return a lazy stream of the primes in the range, in ascending order
+     * @throws IllegalArgumentException if from is negative
+     */
+    public static IntStream intStream(int from, int to) {
+        return stream(from, to).mapToInt(prime -> (int) prime);
+    }
+}
@@ -0,0 +1,57 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically prints the progress of a running search: percentage scanned, primes found,
+ * throughput and estimated time left. It only reads the lock free metrics of the workers,
+ * so it never pauses or slows down the search.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-24
+ */
+public class ProgressReporter {
+
+    private final SearchMetrics metrics;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a reporter for the given search.
+     *
+     * @param metrics the metrics of the search
+     */
+    public ProgressReporter(SearchMetrics metrics) {
+        this.metrics = metrics;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts printing a progress line at a fixed rate.
+     *
+     * @param intervalSeconds seconds between two progress lines
+     */
+    public void start(long intervalSeconds) {
+        executor.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops printing progress lines.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void report() {
+        double eta = metrics.getEtaSeconds();
+        System.out.println(String.format("[progress] %5.1f%% - %d primes - %,.0f numbers/s - ETA %s",
+                metrics.getProgressPercent(), metrics.getPrimesFound(), metrics.getThroughput(),
+                eta < 0 ? "unknown" : String.format("%.1f s", eta)));
+    }
+}
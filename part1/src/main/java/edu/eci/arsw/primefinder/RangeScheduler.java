@@ -0,0 +1,174 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dynamic scheduler that cuts a range of numbers into small chunks that the workers claim on demand.
+ * Instead of giving each thread a fixed third of the range, idle workers keep taking the next pending
+ * chunk, so a thread that got cheap numbers does not sit idle while another one is still busy.
+ * Chunks are handed out in ascending order with a single atomic increment, so claiming one is lock free.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.2
+ * @since 2025-09-08
+ */
+public class RangeScheduler {
+
+    /**
+     * Default amount of numbers per chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 17;
+
+    private final long startRange;
+    private final long endRange;
+    private final long chunkSize;
+    private final long chunkCount;
+    private final long[] pendingChunks;
+    private final AtomicLong nextChunk = new AtomicLong();
+
+    /**
+     * Creates a scheduler for the given range using the default chunk size.
+     *
+     * @param startRange the starting value of the range (inclusive)
+     * @param endRange the ending value of the range (inclusive)
+     */
+    public RangeScheduler(long startRange, long endRange) {
+        this(startRange, endRange, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a scheduler for the given range.
+     *
+     * @param startRange the starting value of the range (inclusive)
+     * @param endRange the ending value of the range (inclusive)
+     * @param chunkSize amount of numbers per chunk
+     */
+    public RangeScheduler(long startRange, long endRange, long chunkSize) {
+        this(startRange, endRange, chunkSize, null);
+    }
+
+    /**
+     * Creates a scheduler that only hands out some of the chunks of the range, for example
+     * the ones that are not already available from a previous run.
+     *
+     * @param startRange the starting value of the range (inclusive)
+     * @param endRange the ending value of the range (inclusive)
+     * @param chunkSize amount of numbers per chunk
+     * @param pendingChunks indexes of the chunks to hand out, in the order they should be claimed,
+     *                      or null to hand out every chunk
+     */
+    public RangeScheduler(long startRange, long endRange, long chunkSize, long[] pendingChunks) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        if (startRange < 0 || endRange < startRange) {
+            throw new IllegalArgumentException("Invalid range: " + startRange + " to " + endRange);
+        }
+        this.startRange = startRange;
+        this.endRange = endRange;
+        this.chunkSize = chunkSize;
+        this.chunkCount = (endRange - startRange) / chunkSize + 1;
+        this.pendingChunks = pendingChunks;
+    }
+
+    /**
+     * Claims the next pending chunk.
+     *
+     * @return the claimed chunk, or null if every chunk has already been handed out
+     */
+    public Chunk nextChunk() {
+        long claimed = nextChunk.getAndIncrement();
+        if (claimed >= getPendingChunkCount()) {
+            return null;
+        }
+        return getChunk(pendingChunks == null ? claimed : pendingChunks[(int) claimed]);
+    }
+
+    /**
+     * Returns the chunk with the given index, without claiming it.
+     *
+     * @param index the chunk index, from 0 to {@link #getChunkCount()} - 1
+     * @return the chunk
+     */
+    public Chunk getChunk(long index) {
+        long start = startRange + index * chunkSize;
+        long end = endRange - start < chunkSize ? endRange : start + chunkSize - 1;
+        return new Chunk(index, start, end);
+    }
+
+    /**
+     * Returns the total number of chunks of the range.
+     * @return the amount of chunks
+     */
+    public long getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the number of chunks this scheduler hands out.
+     * @return the amount of pending chunks, equal to the chunk count unless a pending list was given
+     */
+    public long getPendingChunkCount() {
+        return pendingChunks == null ? chunkCount : pendingChunks.length;
+    }
+
+    /**
+     * Returns the amount of numbers covered by the chunks this scheduler hands out.
+     * @return the sum of the sizes of the pending chunks
+     */
+    public long getPendingNumberCount() {
+        if (pendingChunks == null) {
+            return endRange - startRange + 1;
+        }
+        long numbers = 0;
+        for (long index : pendingChunks) {
+            Chunk chunk = getChunk(index);
+            numbers += chunk.getEnd() - chunk.getStart() + 1;
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns the amount of numbers per chunk.
+     * @return the chunk size
+     */
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    public long getStartRange() {
+        return startRange;
+    }
+
+    public long getEndRange() {
+        return endRange;
+    }
+
+    /**
+     * A contiguous piece of the range handed to a single worker.
+     */
+    public static final class Chunk {
+
+        private final long index;
+        private final long start;
+        private final long end;
+
+        Chunk(long index, long start, long end) {
+            this.index = index;
+            this.start = start;
+            this.end = end;
+        }
+
+        public long getIndex() {
+            return index;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package edu.eci.arsw.primefinder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Headless runner that measures how the search scales over a grid of engines, range sizes and thread counts,
+ * without pauses or console output, and writes one CSV row per configuration.
+ * <p>
+ * Every configuration runs some warmup iterations that are discarded and then the measured repetitions.
+ * Times are the median of the repetitions; GC counts, GC time and allocation are averaged per repetition.
+ * Speedup and parallel efficiency are relative to the smallest thread count of the grid for the same engine
+ * and range, so the grid should start at one thread for the usual definitions. A run in which a worker fails
+ * stops the sweep, so a partial count is never reported as a sample.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-02
+ */
+public class ScalabilitySweep {
+
+    /**
+     * Columns of the CSV report, in order.
+     */
+    public static final String CSV_HEADER = "engine,from,to,threads,repetitions,wall_ms,wall_ms_min,wall_ms_max,"
+            + "worker_cpu_ms,process_cpu_ms,primes,numbers_per_second,speedup,efficiency,"
+            + "gc_count,gc_ms,allocated_bytes";
+
+    private static final String COUNT_ONLY = "count-only";
+
+    private final long startValue;
+    private final int warmupIterations;
+    private final int repetitions;
+
+    /**
+     * Creates a sweep with the given amount of discarded and measured runs per configuration.
+     *
+     * @param startValue first value of every searched range
+     * @param warmupIterations runs discarded before measuring each configuration
+     * @param repetitions measured runs of each configuration
+     */
+    public ScalabilitySweep(long startValue, int warmupIterations, int repetitions) {
+        if (warmupIterations < 0 || repetitions < 1) {
+            throw new IllegalArgumentException("Need at least one repetition and no negative warmup");
+        }
+        this.startValue = startValue;
+        this.warmupIterations = warmupIterations;
+        this.repetitions = repetitions;
+    }
+
+    /**
+     * Main method that runs a sweep and writes its CSV report.
+     *
+     * @param args command line arguments, optionally {@code --engines=sieve,trial,miller-rabin,count-only},
+     *             {@code --from=N}, {@code --to=N,N,...} (range ends), {@code --threads=N,N,...},
+     *             {@code --warmup=N}, {@code --repetitions=N} and {@code --output-file=PATH}
+     */
+    public static void main(String[] args) {
+        List<String> engines = Arrays.asList("sieve");
+        long from = 0;
+        long[] ends = {10000000L, 30000000L};
+        int[] threadCounts = defaultThreadCounts(Runtime.getRuntime().availableProcessors());
+        int warmup = 2;
+        int repetitions = 5;
+        String outputFile = null;
+        ScalabilitySweep sweep;
+        try {
+            for (String arg : args) {
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (arg.startsWith("--engines=")) {
+                    engines = Arrays.asList(value.split(","));
+                    for (String engine : engines) {
+                        if (!engine.equals(COUNT_ONLY)) {
+                            EngineType.fromName(engine);
+                        }
+                    }
+                } else if (arg.startsWith("--from=")) {
+                    from = Long.parseLong(value);
+                } else if (arg.startsWith("--to=")) {
+                    ends = Arrays.stream(value.split(",")).mapToLong(Long::parseLong).toArray();
+                } else if (arg.startsWith("--threads=")) {
+                    threadCounts = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).sorted().toArray();
+                } else if (arg.startsWith("--warmup=")) {
+                    warmup = Integer.parseInt(value);
+                } else if (arg.startsWith("--repetitions=")) {
+                    repetitions = Integer.parseInt(value);
+                } else if (arg.startsWith("--output-file=")) {
+                    outputFile = value;
+                } else {
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+                }
+            }
+            if (threadCounts.length == 0 || threadCounts[0] < 1) {
+                throw new IllegalArgumentException("Thread counts must be positive");
+            }
+            sweep = new ScalabilitySweep(from, warmup, repetitions);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        try (PrintStream out = outputFile == null ? System.out
+                : new PrintStream(Files.newOutputStream(Paths.get(outputFile)), true, "UTF-8")) {
+            out.println(CSV_HEADER);
+            for (String engine : engines) {
+                for (long end : ends) {
+                    sweep.run(engine, end, threadCounts, out);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write " + outputFile + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            System.err.println("Sweep interrupted");
+            Thread.currentThread().interrupt();
+        } catch (IllegalStateException e) {
+            System.err.println("Sweep stopped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Measures one engine and range at every thread count, writing a CSV row for each.
+     *
+     * @param engine an engine name, or {@code count-only} for the wheel sieve counter
+     * @param endValue last value of the range
+     * @param threadCounts thread counts in ascending order; the first one is the speedup baseline
+     * @param out where the rows are written
+     * @throws InterruptedException if interrupted while waiting for the workers
+     * @throws IllegalStateException if a worker fails, in which case no row is written for its thread count
+     */
+    public void run(String engine, long endValue, int[] threadCounts, PrintStream out) throws InterruptedException {
+        Search search;
+        try {
+            search = new Search(engine, startValue, endValue);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Skipping " + engine + " up to " + endValue + ": " + e.getMessage());
+            return;
+        }
+        double baselineWall = 0;
+        for (int threads : threadCounts) {
+            System.err.println("Measuring " + engine + " from " + startValue + " to " + endValue + " with " + threads
+                    + " threads");
+            for (int i = 0; i < warmupIterations; i++) {
+                search.run(threads);
+            }
+            Sample[] samples = new Sample[repetitions];
+            for (int i = 0; i < repetitions; i++) {
+                samples[i] = search.run(threads);
+            }
+            Sample median = median(samples);
+            if (baselineWall == 0) {
+                baselineWall = median.wallNanos;
+            }
+            double speedup = baselineWall / median.wallNanos;
+            double efficiency = speedup * threadCounts[0] / threads;
+            long gcCount = 0;
+            long gcMillis = 0;
+            long allocated = 0;
+            long minWall = Long.MAX_VALUE;
+            long maxWall = 0;
+            for (Sample sample : samples) {
+                gcCount += sample.gcCount;
+                gcMillis += sample.gcMillis;
+                allocated += sample.allocatedBytes;
+                minWall = Math.min(minWall, sample.wallNanos);
+                maxWall = Math.max(maxWall, sample.wallNanos);
+            }
+            double numbers = endValue - startValue + 1;
+            out.println(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%.0f,%.3f,%.3f,%.2f,%.2f,%d",
+                    engine, startValue, endValue, threads, repetitions,
+                    median.wallNanos / 1e6, minWall / 1e6, maxWall / 1e6,
+                    median.workerCpuNanos / 1e6, median.processCpuNanos / 1e6, median.primes,
+                    numbers / (median.wallNanos / 1e9), speedup, efficiency,
+                    (double) gcCount / repetitions, (double) gcMillis / repetitions, allocated / repetitions));
+            out.flush();
+        }
+    }
+
+    /**
+     * Returns the powers of two below the amount of processors, followed by the amount of processors.
+     *
+     * @param processors available processors
+     * @return the default thread counts, in ascending order
+     */
+    static int[] defaultThreadCounts(int processors) {
+        List<Integer> counts = new ArrayList<Integer>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the sample with the median wall time.
+     */
+    private static Sample median(Sample[] samples) {
+        Sample[] sorted = samples.clone();
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.wallNanos, b.wallNanos));
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * One search configuration, whose engine or counter is built once and shared by every run.
+     */
+    private static final class Search {
+
+        private final long startValue;
+        private final long endValue;
+        private final PrimeSearchEngine engine;
+        private final WheelSieveCounter counter;
+        private final long chunkSize;
+
+        Search(String engineName, long startValue, long endValue) {
+            if (endValue < startValue) {
+                throw new IllegalArgumentException("empty range");
+            }
+            this.startValue = startValue;
+            this.endValue = endValue;
+            if (engineName.equals(COUNT_ONLY)) {
+                this.counter = new WheelSieveCounter(BasePrimes.forMaxValue(endValue));
+                this.engine = null;
+                this.chunkSize = counter.getSegmentSpan();
+            } else {
+                this.counter = null;
+                this.engine = EngineType.fromName(engineName).create(endValue);
+                this.chunkSize = RangeScheduler.DEFAULT_CHUNK_SIZE;
+            }
+        }
+
+        /**
+         * Searches the whole range once with the given amount of workers and a controller that never pauses.
+         *
+         * @throws IllegalStateException if a worker fails or is interrupted, since its count is partial
+         */
+        Sample run(int threads) throws InterruptedException {
+            ThreadController controller = new ThreadController();
+            RangeScheduler scheduler = new RangeScheduler(startValue, endValue, chunkSize);
+            PrimeFinderThread[] workers = new PrimeFinderThread[threads];
+            for (int i = 0; i < threads; i++) {
+                workers[i] = counter != null ? new PrimeFinderThread(i + 1, scheduler, controller, counter)
+                        : new PrimeFinderThread(i + 1, scheduler, controller, engine, PrimeOutput.silent());
+            }
+
+            // Collect the garbage of the previous run, so it is not charged to this one
+            System.gc();
+            Sample sample = new Sample();
+            long gcCount = totalGcCount();
+            long gcMillis = totalGcMillis();
+            long processCpu = processCpuNanos();
+            long start = System.nanoTime();
+            for (PrimeFinderThread worker : workers) {
+                worker.start();
+            }
+            try {
+                for (PrimeFinderThread worker : workers) {
+                    worker.join();
+                }
+            } catch (InterruptedException e) {
+                for (PrimeFinderThread worker : workers) {
+                    worker.interrupt();
+                }
+                throw e;
+            }
+            for (PrimeFinderThread worker : workers) {
+                Throwable failure = worker.getTask().getFailure();
+                if (failure != null) {
+                    throw new IllegalStateException("Worker " + worker.getThreadId() + " of " + threads
+                            + " failed searching up to " + endValue + ": " + failure, failure);
+                }
+            }
+            sample.wallNanos = System.nanoTime() - start;
+            sample.processCpuNanos = processCpuNanos() - processCpu;
+            sample.gcCount = totalGcCount() - gcCount;
+            sample.gcMillis = totalGcMillis() - gcMillis;
+            for (PrimeFinderThread worker : workers) {
+                sample.primes += worker.getPrimesCount();
+                sample.workerCpuNanos += worker.getMetrics().getCpuNanos();
+                sample.allocatedBytes += worker.getMetrics().getAllocatedBytes();
+            }
+            return sample;
+        }
+
+        private static long totalGcCount() {
+            long count = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+            }
+            return count;
+        }
+
+        private static long totalGcMillis() {
+            long millis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                millis += Math.max(0, gc.getCollectionTime());
+            }
+            return millis;
+        }
+
+        private static long processCpuNanos() {
+            OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            if (os instanceof com.sun.management.OperatingSystemMXBean) {
+                return Math.max(0, ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime());
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Measurements of a single run.
+     */
+    private static final class Sample {
+        private long wallNanos;
+        private long workerCpuNanos;
+        private long processCpuNanos;
+        private long primes;
+        private long gcCount;
+        private long gcMillis;
+        private long allocatedBytes;
+    }
+}
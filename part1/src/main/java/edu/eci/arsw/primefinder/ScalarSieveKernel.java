@@ -0,0 +1,50 @@
+package edu.eci.arsw.primefinder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Scalar sieve kernel: pre-sieves by copying the repeating pattern of the multiples of 7, 11, 13 and 17,
+ * and counts eight bytes at a time with {@link Long#bitCount}.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-01
+ */
+class ScalarSieveKernel implements SieveKernel {
+
+    static final int[] PATTERN_PRIMES = {7, 11, 13, 17};
+
+    // Multiples of the pattern primes repeat every 7 * 11 * 13 * 17 bytes
+    static final byte[] PATTERN = WheelSieveCounter.pattern(PATTERN_PRIMES, 0);
+
+    @Override
+    public void presieve(byte[] sieve, long low, int length) {
+        int offset = (int) (low % PATTERN.length);
+        for (int i = 0; i < length; ) {
+            int run = Math.min(length - i, PATTERN.length - offset);
+            System.arraycopy(PATTERN, offset, sieve, i, run);
+            i += run;
+            offset = 0;
+        }
+    }
+
+    @Override
+    public int[] getPresievePrimes() {
+        return PATTERN_PRIMES.clone();
+    }
+
+    @Override
+    public long countComposites(byte[] sieve, int length) {
+        ByteBuffer words = ByteBuffer.wrap(sieve);
+        long composites = 0;
+        for (int i = 0; i < length; i += Long.BYTES) {
+            composites += Long.bitCount(words.getLong(i));
+        }
+        return composites;
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
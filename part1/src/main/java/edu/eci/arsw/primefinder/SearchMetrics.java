@@ -0,0 +1,205 @@
+package edu.eci.arsw.primefinder;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Aggregated, lock free view of the progress of a running search.
+ * Every value is computed on demand from the counters of the workers, so taking a snapshot
+ * never stops or slows down the search. The search and each worker can be exposed as JMX MBeans
+ * under the {@code edu.eci.arsw.primefinder} domain.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-24
+ */
+public class SearchMetrics implements SearchMetricsMXBean {
+
+    private static final String DOMAIN = "edu.eci.arsw.primefinder";
+
+    private final long totalNumbers;
+    private final long numbersBefore;
+    private final long primesBefore;
+    private final WorkerMetrics[] workers;
+    private final List<ObjectName> registeredNames = new ArrayList<ObjectName>();
+    private volatile long startNanos = System.nanoTime();
+    private volatile long endNanos = 0;
+
+    /**
+     * Creates the aggregated metrics of a search.
+     *
+     * @param totalNumbers amount of numbers the search has to scan
+     * @param workers the metrics of every worker
+     */
+    public SearchMetrics(long totalNumbers, WorkerMetrics[] workers) {
+        this(totalNumbers, workers, 0, 0);
+    }
+
+    /**
+     * Creates the metrics of a search that continues previous ones, so totals include what was already
+     * scanned and found. The throughput and the ETA only consider the numbers scanned by these workers.
+     *
+     * @param totalNumbers amount of numbers these workers have to scan
+     * @param workers the metrics of every worker
+     * @param numbersBefore amount of numbers scanned by the previous searches
+     * @param primesBefore amount of primes found by the previous searches
+     */
+    public SearchMetrics(long totalNumbers, WorkerMetrics[] workers, long numbersBefore, long primesBefore) {
+        this.totalNumbers = totalNumbers;
+        this.numbersBefore = numbersBefore;
+        this.primesBefore = primesBefore;
+        this.workers = workers.clone();
+    }
+
+    /**
+     * Marks the start of the search, which is the reference for the throughput and the ETA.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        endNanos = 0;
+    }
+
+    /**
+     * Marks the end of the search; elapsed time and throughput stop changing afterwards.
+     */
+    public void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    @Override
+    public long getTotalNumbers() {
+        return numbersBefore + totalNumbers;
+    }
+
+    @Override
+    public long getNumbersScanned() {
+        return numbersBefore + scannedByWorkers();
+    }
+
+    @Override
+    public long getPrimesFound() {
+        long primes = primesBefore;
+        for (WorkerMetrics worker : workers) {
+            primes += worker.getPrimesFound();
+        }
+        return primes;
+    }
+
+    @Override
+    public double getProgressPercent() {
+        long total = getTotalNumbers();
+        return total == 0 ? 100.0 : 100.0 * getNumbersScanned() / total;
+    }
+
+    /**
+     * Returns the average amount of numbers scanned per second since the start of the search.
+     * @return the throughput in numbers per second
+     */
+    @Override
+    public double getThroughput() {
+        long elapsed = elapsedNanos();
+        return elapsed == 0 ? 0 : scannedByWorkers() * 1e9 / elapsed;
+    }
+
+    /**
+     * Returns the estimated time left, assuming the current average throughput.
+     * @return the estimated seconds left, or -1 if nothing has been scanned yet
+     */
+    @Override
+    public double getEtaSeconds() {
+        long scanned = scannedByWorkers();
+        if (scanned == 0) {
+            return -1;
+        }
+        return (totalNumbers - scanned) * (elapsedNanos() / 1e9) / scanned;
+    }
+
+    @Override
+    public long getParkedMillis() {
+        long parked = 0;
+        for (WorkerMetrics worker : workers) {
+            parked += worker.getParkedMillis();
+        }
+        return parked;
+    }
+
+    @Override
+    public long getElapsedMillis() {
+        return elapsedNanos() / 1000000;
+    }
+
+    /**
+     * Returns the metrics of every worker.
+     * @return a copy of the worker metrics array
+     */
+    public WorkerMetrics[] getWorkers() {
+        return workers.clone();
+    }
+
+    private long scannedByWorkers() {
+        long scanned = 0;
+        for (WorkerMetrics worker : workers) {
+            scanned += worker.getNumbersScanned();
+        }
+        return scanned;
+    }
+
+    private long elapsedNanos() {
+        long end = endNanos;
+        return (end == 0 ? System.nanoTime() : end) - startNanos;
+    }
+
+    /**
+     * Registers the search and its workers in the platform MBean server.
+     *
+     * @throws JMException if the MBeans cannot be registered
+     */
+    public void registerMBeans() throws JMException {
+        registerMBeans(true);
+    }
+
+    /**
+     * Registers the search in the platform MBean server and, optionally, each of its workers,
+     * which can be left out when a search has one short lived worker per chunk.
+     *
+     * @param includeWorkers whether to register an MBean per worker
+     * @throws JMException if the MBeans cannot be registered
+     */
+    public synchronized void registerMBeans(boolean includeWorkers) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        register(server, new ObjectName(DOMAIN + ":type=Search"), this);
+        if (includeWorkers) {
+            for (WorkerMetrics worker : workers) {
+                register(server, new ObjectName(DOMAIN + ":type=Worker,id=" + worker.getThreadId()), worker);
+            }
+        }
+    }
+
+    private void register(MBeanServer server, ObjectName name, Object bean) throws JMException {
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(bean, name);
+        registeredNames.add(name);
+    }
+
+    /**
+     * Removes the MBeans registered by {@link #registerMBeans()}.
+     */
+    public synchronized void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredNames) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                // Already removed, nothing to do
+            }
+        }
+        registeredNames.clear();
+    }
+}
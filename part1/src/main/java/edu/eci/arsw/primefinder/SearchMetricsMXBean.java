@@ -0,0 +1,27 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * JMX view of the aggregated progress of a running prime search.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-09-24
+ */
+public interface SearchMetricsMXBean {
+
+    long getTotalNumbers();
+
+    long getNumbersScanned();
+
+    long getPrimesFound();
+
+    double getProgressPercent();
+
+    double getThroughput();
+
+    double getEtaSeconds();
+
+    long getParkedMillis();
+
+    long getElapsedMillis();
+}
@@ -0,0 +1,105 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Prime search engine based on a segmented Sieve of Eratosthenes.
+ * The range is processed in small segments that fit in the CPU cache; each segment
+ * only stores odd numbers and is sieved with a shared table of base primes.
+ * A pause point is checked once per segment.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-05
+ */
+public class SegmentedSieveEngine implements PrimeSearchEngine {
+
+    /**
+     * Default amount of odd numbers per segment (32 KB, the usual L1 data cache size).
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 32 * 1024;
+
+    private final BasePrimes basePrimes;
+    private final int segmentSize;
+
+    /**
+     * Creates a sieve engine able to search any range up to the limit covered by the base primes.
+     *
+     * @param basePrimes shared table with the primes up to sqrt(MAX_VALUE)
+     */
+    public SegmentedSieveEngine(BasePrimes basePrimes) {
+        this(basePrimes, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a sieve engine with a custom segment size.
+     *
+     * @param basePrimes shared table with the primes up to sqrt(MAX_VALUE)
+     * @param segmentSize amount of odd numbers sieved at once
+     */
+    public SegmentedSieveEngine(BasePrimes basePrimes, int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentSize);
+        }
+        this.basePrimes = basePrimes;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public void search(long startRange, long endRange, ThreadController controller, LongConsumer primeConsumer)
+            throws InterruptedException {
+        long limit = (long) basePrimes.getLimit() * basePrimes.getLimit();
+        if (endRange > limit) {
+            throw new IllegalArgumentException("Base primes only cover values up to " + limit + ", got " + endRange);
+        }
+
+        if (startRange <= 2 && endRange >= 2) {
+            primeConsumer.accept(2);
+        }
+
+        // Odd numbers only: index i of a segment represents firstOdd + 2 * i
+        long firstOdd = Math.max(3, startRange | 1);
+        boolean[] composite = new boolean[segmentSize];
+
+        for (long low = firstOdd; low <= endRange; low += 2L * segmentSize) {
+            controller.checkPausePoint();
+
+            long high = Math.min(endRange, low + 2L * segmentSize - 1);
+            int length = (int) ((high - low) / 2 + 1);
+            Arrays.fill(composite, 0, length, false);
+
+            for (int k = 1; k < basePrimes.size(); k++) {
+                long p = basePrimes.get(k);
+                long square = p * p;
+                if (square > high) {
+                    break;
+                }
+
+                // Offset of the first multiple of p in the segment, skipped if the segment has none
+                long offset = (p - low % p) % p;
+                if (offset > high - low) {
+                    continue;
+                }
+                long first = Math.max(square, low + offset);
+                if ((first & 1) == 0) {
+                    first += p;
+                }
+                for (long multiple = first; multiple <= high; multiple += 2 * p) {
+                    composite[(int) ((multiple - low) >>> 1)] = true;
+                }
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (!composite[i]) {
+                    primeConsumer.accept(low + 2L * i);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "segmented sieve";
+    }
+}
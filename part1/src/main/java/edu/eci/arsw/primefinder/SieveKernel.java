@@ -0,0 +1,64 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * Bulk operations over the bitmap of a {@link WheelSieveCounter} segment, where bit j of byte i
+ * represents 30 * i + R[j]. The scalar kernel always works; the vector kernel uses the incubating
+ * JDK Vector API and is only available when the JVM runs with {@code --add-modules jdk.incubator.vector}.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-01
+ */
+public interface SieveKernel {
+
+    /**
+     * Resets a segment to the multiples of the pre-sieve primes, replacing any previous content.
+     *
+     * @param sieve the segment bitmap
+     * @param low index of the first byte of the segment in the whole wheel
+     * @param length amount of bytes of the segment
+     */
+    void presieve(byte[] sieve, long low, int length);
+
+    /**
+     * Returns the primes whose multiples {@link #presieve} crosses off. They are crossed off themselves,
+     * so the caller has to restore them.
+     * @return the pre-sieve primes, in ascending order
+     */
+    int[] getPresievePrimes();
+
+    /**
+     * Counts the bits set in the first bytes of a segment.
+     *
+     * @param sieve the segment bitmap
+     * @param length amount of bytes to count, a multiple of 8
+     * @return the amount of crossed off numbers
+     */
+    long countComposites(byte[] sieve, int length);
+
+    /**
+     * Returns the name of this kernel, as shown to the user.
+     * @return the kernel name
+     */
+    String getName();
+
+    /**
+     * Returns the scalar kernel.
+     * @return a kernel that works on any JVM
+     */
+    static SieveKernel scalar() {
+        return new ScalarSieveKernel();
+    }
+
+    /**
+     * Returns the Vector API kernel if the {@code jdk.incubator.vector} module is present, or the scalar
+     * kernel otherwise.
+     * @return the fastest available kernel
+     */
+    static SieveKernel vectorIfAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return new VectorSieveKernel();
+        }
+        return scalar();
+    }
+}
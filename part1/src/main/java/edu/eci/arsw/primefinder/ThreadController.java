@@ -1,26 +1,54 @@
 package edu.eci.arsw.primefinder;
 
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Controller class for managing thread execution state.
  * Provides synchronization mechanisms to pause and resume multiple threads simultaneously.
- * Uses wait/notify pattern for efficient thread coordination.
+ * The pause state is a volatile flag, so a pause point costs a single volatile read while no pause
+ * is requested; workers only take the lock and await a condition once a pause is requested.
+ * A {@link ReentrantLock} is used instead of a monitor so that workers running on virtual threads unmount
+ * from their carrier while paused, instead of pinning it.
+ * Workers register themselves so {@link #pauseAndAwaitQuiescence()} can tell when all of them are stopped,
+ * and the time each one spends parked is added to its {@link WorkerMetrics}.
  *
  * @author Jesús Pinzón & David Velásquez
- * @version 1.2
+ * @version 1.4
  * @since 2025-08-22
  */
 public class ThreadController {
 
-    private boolean isPaused = false;
-    private final Object monitor = new Object();
+    private volatile boolean isPaused = false;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition resumed = lock.newCondition();
+    private final Condition workersChanged = lock.newCondition();
+    private int activeWorkers = 0;
+    private int parkedWorkers = 0;
 
     /**
      * Pauses all threads that call checkPausePoint().
      * Threads will wait until resume() is called.
      */
     public void pause() {
-        synchronized (monitor) {
+        isPaused = true;
+    }
+
+    /**
+     * Pauses all threads and waits until every registered worker is actually stopped at a pause point
+     * or has finished, so any state read afterwards is not modified until resume() is called.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void pauseAndAwaitQuiescence() throws InterruptedException {
+        lock.lock();
+        try {
             isPaused = true;
+            while (isPaused && parkedWorkers < activeWorkers) {
+                workersChanged.await();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -29,9 +57,13 @@ public class ThreadController {
      * Notifies all waiting threads to continue execution.
      */
     public void resume() {
-        synchronized (monitor) {
+        lock.lock();
+        try {
             isPaused = false;
-            monitor.notifyAll();
+            resumed.signalAll();
+            workersChanged.signalAll();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -42,10 +74,50 @@ public class ThreadController {
      * @throws InterruptedException if the thread is interrupted while waiting
      */
     public void checkPausePoint() throws InterruptedException {
-        synchronized (monitor) {
+        if (!isPaused) {
+            return;
+        }
+        long parkedSince = System.nanoTime();
+        lock.lock();
+        try {
+            parkedWorkers++;
+            workersChanged.signalAll();
             while (isPaused) {
-                monitor.wait();
+                resumed.await();
             }
+        } finally {
+            parkedWorkers--;
+            lock.unlock();
+        }
+        WorkerMetrics metrics = WorkerMetrics.current();
+        if (metrics != null) {
+            metrics.addParkedNanos(System.nanoTime() - parkedSince);
+        }
+    }
+
+    /**
+     * Registers a worker that will call checkPausePoint(), so it is taken into account
+     * by pauseAndAwaitQuiescence().
+     */
+    public void registerWorker() {
+        lock.lock();
+        try {
+            activeWorkers++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deregisters a worker that will not call checkPausePoint() anymore.
+     */
+    public void deregisterWorker() {
+        lock.lock();
+        try {
+            activeWorkers--;
+            workersChanged.signalAll();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -54,8 +126,6 @@ public class ThreadController {
      * @return true if threads are paused, false otherwise
      */
     public boolean isPaused() {
-        synchronized (monitor) {
-            return isPaused;
-        }
+        return isPaused;
     }
 }
@@ -0,0 +1,67 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Prime search engine that tests every number of the range by trial division.
+ * This is the original algorithm of the laboratory, kept as a fallback and as a
+ * baseline to compare against the sieve based engines.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-05
+ */
+public class TrialDivisionEngine implements PrimeSearchEngine {
+
+    private static final int PAUSE_CHECK_INTERVAL = 1000;
+
+    @Override
+    public void search(long startRange, long endRange, ThreadController controller, LongConsumer primeConsumer)
+            throws InterruptedException {
+        for (long i = startRange; i <= endRange; i++) {
+            // Check pause point every 1000 iterations for better responsiveness
+            if (i % PAUSE_CHECK_INTERVAL == 0) {
+                controller.checkPausePoint();
+            }
+
+            if (isPrime(i)) {
+                primeConsumer.accept(i);
+            }
+
+            if (i == Long.MAX_VALUE) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Determines if a given number is prime.
+     * A prime number is a natural number greater than 1 that has no positive divisors other than 1 and itself.
+     *
+     * @param number the number to check for primality
+     * @return true if the number is prime, false otherwise
+     */
+    public static boolean isPrime(long number) {
+        if (number <= 1) {
+            return false;
+        }
+        if (number == 2) {
+            return true;
+        }
+        if (number % 2 == 0) {
+            return false;
+        }
+
+        for (long i = 3; i <= number / i; i += 2) {
+            if (number % i == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "trial division";
+    }
+}
@@ -0,0 +1,114 @@
+package edu.eci.arsw.primefinder;
+
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Sieve kernel based on the incubating JDK Vector API. A segment is reset and pre-sieved in a single pass:
+ * each vector of the segment is the OR of the matching vectors of six repeating patterns, which cross off
+ * the multiples of every prime from 7 to 59. Composites are counted with a lane-wise SWAR popcount,
+ * since JDK 17 has no lane-wise bit count operation.
+ * Only load this class through {@link SieveKernel#vectorIfAvailable()}.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-01
+ */
+class VectorSieveKernel implements SieveKernel {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    // Each pair of primes p, q shares a pattern of p * q bytes, the period of their multiples on the wheel
+    private static final int[][] PATTERN_PRIMES = {
+            ScalarSieveKernel.PATTERN_PRIMES, {19, 23}, {29, 31}, {37, 41}, {43, 47}, {53, 59}
+    };
+    private static final int[] PRESIEVE_PRIMES = {7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59};
+
+    // Patterns are extended by one vector so that a vector can always be loaded at any offset below the period
+    private static final byte[][] PATTERNS = new byte[PATTERN_PRIMES.length][];
+    private static final int[] PERIODS = new int[PATTERN_PRIMES.length];
+
+    static {
+        for (int k = 0; k < PATTERN_PRIMES.length; k++) {
+            PATTERNS[k] = WheelSieveCounter.pattern(PATTERN_PRIMES[k], BYTES.length());
+            PERIODS[k] = PATTERNS[k].length - BYTES.length();
+        }
+    }
+
+    @Override
+    public void presieve(byte[] sieve, long low, int length) {
+        int[] offsets = new int[PATTERNS.length];
+        for (int k = 0; k < PATTERNS.length; k++) {
+            offsets[k] = (int) (low % PERIODS[k]);
+        }
+        byte[] p0 = PATTERNS[0], p1 = PATTERNS[1], p2 = PATTERNS[2], p3 = PATTERNS[3], p4 = PATTERNS[4],
+                p5 = PATTERNS[5];
+        int o0 = offsets[0], o1 = offsets[1], o2 = offsets[2], o3 = offsets[3], o4 = offsets[4], o5 = offsets[5];
+        int step = BYTES.length();
+
+        int i = 0;
+        for (int upper = BYTES.loopBound(length); i < upper; i += step) {
+            ByteVector.fromArray(BYTES, p0, o0)
+                    .or(ByteVector.fromArray(BYTES, p1, o1))
+                    .or(ByteVector.fromArray(BYTES, p2, o2))
+                    .or(ByteVector.fromArray(BYTES, p3, o3))
+                    .or(ByteVector.fromArray(BYTES, p4, o4))
+                    .or(ByteVector.fromArray(BYTES, p5, o5))
+                    .intoArray(sieve, i);
+            o0 = advance(o0, step, PERIODS[0]);
+            o1 = advance(o1, step, PERIODS[1]);
+            o2 = advance(o2, step, PERIODS[2]);
+            o3 = advance(o3, step, PERIODS[3]);
+            o4 = advance(o4, step, PERIODS[4]);
+            o5 = advance(o5, step, PERIODS[5]);
+        }
+        for (; i < length; i++) {
+            sieve[i] = (byte) (p0[o0] | p1[o1] | p2[o2] | p3[o3] | p4[o4] | p5[o5]);
+            o0 = advance(o0, 1, PERIODS[0]);
+            o1 = advance(o1, 1, PERIODS[1]);
+            o2 = advance(o2, 1, PERIODS[2]);
+            o3 = advance(o3, 1, PERIODS[3]);
+            o4 = advance(o4, 1, PERIODS[4]);
+            o5 = advance(o5, 1, PERIODS[5]);
+        }
+    }
+
+    @Override
+    public int[] getPresievePrimes() {
+        return PRESIEVE_PRIMES.clone();
+    }
+
+    @Override
+    public long countComposites(byte[] sieve, int length) {
+        LongVector counts = LongVector.zero(LONGS);
+        int i = 0;
+        for (int upper = length - length % LONGS.vectorByteSize(); i < upper; i += LONGS.vectorByteSize()) {
+            LongVector x = LongVector.fromByteArray(LONGS, sieve, i, ByteOrder.nativeOrder());
+            x = x.sub(x.lanewise(VectorOperators.LSHR, 1).and(0x5555555555555555L));
+            x = x.and(0x3333333333333333L).add(x.lanewise(VectorOperators.LSHR, 2).and(0x3333333333333333L));
+            x = x.add(x.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F0F0F0F0F0F0FL);
+            counts = counts.add(x.mul(0x0101010101010101L).lanewise(VectorOperators.LSHR, 56));
+        }
+        long composites = counts.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            composites += Integer.bitCount(sieve[i] & 0xFF);
+        }
+        return composites;
+    }
+
+    @Override
+    public String getName() {
+        return "vector (" + BYTES.vectorBitSize() + " bit)";
+    }
+
+    private static int advance(int offset, int step, int period) {
+        // Branch free wrap around, the patterns are read at unrelated positions
+        offset += step - period;
+        return offset + (period & (offset >> 31));
+    }
+}
@@ -0,0 +1,237 @@
+package edu.eci.arsw.primefinder;
+
+import java.util.Arrays;
+
+/**
+ * Counts the primes of a range without materializing them, with a segmented sieve over a mod-30 wheel.
+ * Only the 8 residues coprime to 30 are stored: bit j of byte i represents 30 * i + R[j], with
+ * R = {1, 7, 11, 13, 17, 19, 23, 29}, so each byte covers 30 numbers. Each base prime p crosses off one
+ * residue class at a time, and consecutive multiples of p in the same class are exactly p bytes apart.
+ * Multiples of the smallest primes are copied from precomputed patterns instead of being crossed off, and
+ * composites are counted in bulk; both operations are delegated to a {@link SieveKernel}.
+ * A pause point is checked once per segment.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-28
+ */
+public class WheelSieveCounter {
+
+    /**
+     * Default amount of wheel bytes per segment (256 KB, about the size of a L2 cache).
+     */
+    public static final int DEFAULT_SEGMENT_BYTES = 256 * 1024;
+
+    /**
+     * Amount of numbers covered by one byte of the wheel.
+     */
+    public static final int WHEEL = 30;
+
+    private static final int[] WHEEL_PRIMES = {2, 3, 5};
+    static final int[] RESIDUES = {1, 7, 11, 13, 17, 19, 23, 29};
+    private static final int[] BIT_OF_RESIDUE = new int[WHEEL];
+    private static final int[] INVERSE = new int[WHEEL];
+
+    static {
+        Arrays.fill(BIT_OF_RESIDUE, -1);
+        for (int j = 0; j < RESIDUES.length; j++) {
+            BIT_OF_RESIDUE[RESIDUES[j]] = j;
+            for (int r : RESIDUES) {
+                if (RESIDUES[j] * r % WHEEL == 1) {
+                    INVERSE[RESIDUES[j]] = r;
+                }
+            }
+        }
+    }
+
+    private final BasePrimes basePrimes;
+    private final int segmentBytes;
+    private final SieveKernel kernel;
+    private final int[] presievePrimes;
+
+    /**
+     * Creates a counter able to count any range up to the limit covered by the base primes.
+     *
+     * @param basePrimes shared table with the primes up to sqrt(MAX_VALUE)
+     */
+    public WheelSieveCounter(BasePrimes basePrimes) {
+        this(basePrimes, DEFAULT_SEGMENT_BYTES, SieveKernel.scalar());
+    }
+
+    /**
+     * Creates a counter that uses the given kernel for its bulk bitmap operations.
+     *
+     * @param basePrimes shared table with the primes up to sqrt(MAX_VALUE)
+     * @param kernel the kernel that pre-sieves and counts each segment
+     */
+    public WheelSieveCounter(BasePrimes basePrimes, SieveKernel kernel) {
+        this(basePrimes, DEFAULT_SEGMENT_BYTES, kernel);
+    }
+
+    /**
+     * Creates a counter with a custom segment size.
+     *
+     * @param basePrimes shared table with the primes up to sqrt(MAX_VALUE)
+     * @param segmentBytes amount of wheel bytes sieved at once, a multiple of 8
+     * @param kernel the kernel that pre-sieves and counts each segment
+     */
+    public WheelSieveCounter(BasePrimes basePrimes, int segmentBytes, SieveKernel kernel) {
+        if (segmentBytes <= 0 || segmentBytes % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Segment size must be a positive multiple of 8: " + segmentBytes);
+        }
+        this.basePrimes = basePrimes;
+        this.segmentBytes = segmentBytes;
+        this.kernel = kernel;
+        this.presievePrimes = kernel.getPresievePrimes();
+    }
+
+    /**
+     * Returns the kernel used for the bulk bitmap operations.
+     * @return the sieve kernel
+     */
+    public SieveKernel getKernel() {
+        return kernel;
+    }
+
+    /**
+     * Returns the amount of numbers covered by one segment, a good chunk size for count-only searches.
+     * @return the numbers per segment
+     */
+    public long getSegmentSpan() {
+        return (long) segmentBytes * WHEEL;
+    }
+
+    /**
+     * Counts the primes in [startRange, endRange].
+     *
+     * @param startRange the first value of the range (inclusive)
+     * @param endRange the last value of the range (inclusive)
+     * @param controller the thread controller for pause/resume functionality
+     * @return the amount of primes in the range
+     * @throws InterruptedException if the thread is interrupted while paused
+     */
+    public long countPrimes(long startRange, long endRange, ThreadController controller) throws InterruptedException {
+        long limit = (long) basePrimes.getLimit() * basePrimes.getLimit();
+        if (endRange > limit) {
+            throw new IllegalArgumentException("Base primes only cover values up to " + limit + ", got " + endRange);
+        }
+        if (startRange > endRange) {
+            return 0;
+        }
+
+        // 2, 3 and 5 are the only primes outside the wheel
+        long count = 0;
+        for (int p : WHEEL_PRIMES) {
+            if (startRange <= p && p <= endRange) {
+                count++;
+            }
+        }
+
+        long firstByte = startRange / WHEEL;
+        long lastByte = endRange / WHEEL;
+        int capacity = (int) Math.min(segmentBytes, lastByte - firstByte + 1);
+        byte[] sieve = new byte[(capacity + Long.BYTES - 1) / Long.BYTES * Long.BYTES];
+
+        for (long low = firstByte; low <= lastByte; low += segmentBytes) {
+            controller.checkPausePoint();
+
+            int length = (int) Math.min(segmentBytes, lastByte - low + 1);
+            int wordCount = (length + Long.BYTES - 1) / Long.BYTES;
+            kernel.presieve(sieve, low, length);
+            crossOffMultiples(sieve, low, length);
+
+            // Cross off 1, restore the pre-sieved primes, and cross off the numbers outside the range
+            if (low == 0) {
+                sieve[0] |= 1;
+            }
+            for (int p : presievePrimes) {
+                if (p / WHEEL >= low && p / WHEEL < low + length) {
+                    sieve[(int) (p / WHEEL - low)] &= ~(1 << BIT_OF_RESIDUE[p % WHEEL]);
+                }
+            }
+            if (low == firstByte) {
+                crossOffOutside(sieve, 0, low * WHEEL, startRange, true);
+            }
+            if (low + length - 1 == lastByte) {
+                crossOffOutside(sieve, length - 1, lastByte * WHEEL, endRange, false);
+                // Padding bytes of the last word do not hold numbers
+                Arrays.fill(sieve, length, wordCount * Long.BYTES, (byte) 0xFF);
+            }
+
+            count += (long) wordCount * Long.SIZE - kernel.countComposites(sieve, wordCount * Long.BYTES);
+        }
+        return count;
+    }
+
+    /**
+     * Builds the bitmap of the multiples of the given primes over one period of their product,
+     * which is how often the bitmap repeats, followed by a copy of its first bytes.
+     *
+     * @param primes the primes to cross off, coprime to 30
+     * @param extension amount of bytes repeated after the period
+     * @return the pattern, of length product + extension
+     */
+    static byte[] pattern(int[] primes, int extension) {
+        int period = 1;
+        for (int p : primes) {
+            period *= p;
+        }
+        byte[] pattern = new byte[period + extension];
+        for (int i = 0; i < pattern.length; i++) {
+            for (int j = 0; j < RESIDUES.length; j++) {
+                for (int p : primes) {
+                    if (((long) WHEEL * i + RESIDUES[j]) % p == 0) {
+                        pattern[i] |= 1 << j;
+                    }
+                }
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Sets the bit of every multiple of a base prime in the segment that starts at byte low.
+     */
+    private void crossOffMultiples(byte[] sieve, long low, int length) {
+        long segmentStart = low * WHEEL;
+        long segmentEnd = (low + length) * WHEEL - 1;
+        // Base primes 2, 3 and 5 are removed by the wheel, and the smallest ones after them by the kernel
+        int lastPresieved = presievePrimes[presievePrimes.length - 1];
+        for (int k = 0; k < basePrimes.size(); k++) {
+            long p = basePrimes.get(k);
+            if (p <= lastPresieved) {
+                continue;
+            }
+            long square = p * p;
+            if (square > segmentEnd) {
+                break;
+            }
+
+            // Smallest multiplier whose multiple is in the segment and was not crossed off by a smaller prime
+            long minMultiplier = Math.max(p, (segmentStart + p - 1) / p);
+            int inverse = INVERSE[(int) (p % WHEEL)];
+            for (int residue : RESIDUES) {
+                // p * m falls on this residue when m is congruent to residue * p^-1 (mod 30)
+                int multiplierResidue = residue * inverse % WHEEL;
+                long multiplier = minMultiplier + (multiplierResidue - minMultiplier % WHEEL + WHEEL) % WHEEL;
+                long index = p * multiplier / WHEEL - low;
+                byte mask = (byte) (1 << BIT_OF_RESIDUE[residue]);
+                for (; index < length; index += p) {
+                    sieve[(int) index] |= mask;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the bits of the numbers of a byte that are before (or after) the given bound.
+     */
+    private static void crossOffOutside(byte[] sieve, int index, long byteStart, long bound, boolean before) {
+        for (int j = 0; j < RESIDUES.length; j++) {
+            long value = byteStart + RESIDUES[j];
+            if (before ? value < bound : value > bound) {
+                sieve[index] |= 1 << j;
+            }
+        }
+    }
+}
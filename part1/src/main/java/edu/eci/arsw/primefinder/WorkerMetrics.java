@@ -0,0 +1,169 @@
+package edu.eci.arsw.primefinder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Live counters of a single prime finder worker.
+ * Each counter has a single writer, the worker itself, so they are plain volatile fields updated
+ * without locks or atomic read-modify-write operations. They are updated once per chunk, which keeps
+ * their cost negligible, and any other thread can read them at any time without stopping the worker.
+ * The time spent parked is recorded by the ThreadController through {@link #current()}, and the CPU time
+ * and allocated bytes of the worker thread are sampled after each chunk and when the worker finishes.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-24
+ */
+public class WorkerMetrics implements WorkerMetricsMXBean {
+
+    private static final ThreadLocal<WorkerMetrics> CURRENT = new ThreadLocal<WorkerMetrics>();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final int threadId;
+    private volatile long numbersScanned = 0;
+    private volatile long primesFound = 0;
+    private volatile long chunksCompleted = 0;
+    private volatile long currentPosition = -1;
+    private volatile long parkedNanos = 0;
+    private volatile long cpuNanos = 0;
+    private volatile long allocatedBytes = 0;
+    private long cpuNanosAtBind;
+    private long allocatedBytesAtBind;
+
+    /**
+     * Creates the counters of a worker.
+     *
+     * @param threadId the custom identifier of the worker
+     */
+    public WorkerMetrics(int threadId) {
+        this.threadId = threadId;
+    }
+
+    /**
+     * Returns the metrics bound to the calling thread.
+     * @return the metrics of the current worker, or null if the thread is not a worker
+     */
+    public static WorkerMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds these metrics to the calling thread, so the time it spends parked is recorded. A worker that
+     * runs several times, possibly on different threads, keeps adding to the CPU time and allocation of
+     * its previous runs.
+     */
+    public void bindToCurrentThread() {
+        CURRENT.set(this);
+        cpuNanosAtBind = currentThreadCpuNanos() - cpuNanos;
+        allocatedBytesAtBind = currentThreadAllocatedBytes() - allocatedBytes;
+    }
+
+    /**
+     * Removes the binding of the calling thread, sampling its CPU time and allocation one last time.
+     */
+    public void unbindFromCurrentThread() {
+        sampleCurrentThread();
+        CURRENT.remove();
+    }
+
+    /**
+     * Records that the worker started searching a chunk.
+     *
+     * @param chunk the chunk being searched
+     */
+    public void chunkStarted(RangeScheduler.Chunk chunk) {
+        currentPosition = chunk.getStart();
+    }
+
+    /**
+     * Records that the worker finished searching a chunk.
+     *
+     * @param chunk the completed chunk
+     * @param primes the amount of primes found in the chunk
+     */
+    public void chunkCompleted(RangeScheduler.Chunk chunk, long primes) {
+        numbersScanned += chunk.getEnd() - chunk.getStart() + 1;
+        primesFound += primes;
+        chunksCompleted++;
+        currentPosition = chunk.getEnd();
+        sampleCurrentThread();
+    }
+
+    /**
+     * Adds time spent parked at a pause point.
+     *
+     * @param nanos the parked time in nanoseconds
+     */
+    public void addParkedNanos(long nanos) {
+        parkedNanos += nanos;
+    }
+
+    @Override
+    public int getThreadId() {
+        return threadId;
+    }
+
+    @Override
+    public long getNumbersScanned() {
+        return numbersScanned;
+    }
+
+    @Override
+    public long getPrimesFound() {
+        return primesFound;
+    }
+
+    @Override
+    public long getChunksCompleted() {
+        return chunksCompleted;
+    }
+
+    @Override
+    public long getCurrentPosition() {
+        return currentPosition;
+    }
+
+    @Override
+    public long getParkedMillis() {
+        return parkedNanos / 1000000;
+    }
+
+    @Override
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Updates the CPU time and allocation counters from the calling thread, which must be the bound worker.
+     */
+    private void sampleCurrentThread() {
+        cpuNanos = Math.max(0, currentThreadCpuNanos() - cpuNanosAtBind);
+        allocatedBytes = Math.max(0, currentThreadAllocatedBytes() - allocatedBytesAtBind);
+    }
+
+    /**
+     * Returns the CPU time of the calling thread, or 0 if the JVM does not measure it.
+     */
+    private static long currentThreadCpuNanos() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Returns the bytes allocated by the calling thread, or 0 if the JVM does not measure them.
+     */
+    private static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return 0;
+    }
+}
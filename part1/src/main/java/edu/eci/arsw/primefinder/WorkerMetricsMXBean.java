@@ -0,0 +1,27 @@
+package edu.eci.arsw.primefinder;
+
+/**
+ * JMX view of the counters of a single prime finder worker.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.1
+ * @since 2025-09-24
+ */
+public interface WorkerMetricsMXBean {
+
+    int getThreadId();
+
+    long getNumbersScanned();
+
+    long getPrimesFound();
+
+    long getChunksCompleted();
+
+    long getCurrentPosition();
+
+    long getParkedMillis();
+
+    long getCpuNanos();
+
+    long getAllocatedBytes();
+}
@@ -0,0 +1,72 @@
+package arsw.threads.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arsw.threads.Carrera;
+
+/**
+ * Steps advanced per second by a headless race with no delay between steps, running a thread per dog
+ * ({@code threads = 0}) or the tick scheduler with a fixed pool. The {@code steps} counter is the throughput
+ * in dog steps per second; the primary score is races per second.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-06
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarreraBenchmark {
+
+    @Param({"1000", "10000"})
+    private int lanes;
+
+    @Param({"100"})
+    private int length;
+
+    @Param({"0", "1", "4"})
+    private int threads;
+
+    /**
+     * Dog steps advanced, reported by JMH as a rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Steps {
+        public long steps;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            steps = 0;
+        }
+    }
+
+    @Benchmark
+    public String race(Steps counter) throws InterruptedException {
+        Carrera carrera = new Carrera(lanes, length);
+        if (threads == 0) {
+            carrera.correr(0);
+        } else {
+            carrera.correrPorTicks(0, threads);
+        }
+        counter.steps += (long) lanes * length;
+        return carrera.getRegistro().getGanador();
+    }
+}
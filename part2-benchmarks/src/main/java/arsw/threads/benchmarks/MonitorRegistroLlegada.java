@@ -0,0 +1,50 @@
+package arsw.threads.benchmarks;
+
+/**
+ * Copy of the original monitor based {@code RegistroLlegada}, kept as the baseline of
+ * {@link RegistroLlegadaBenchmark}. Only the winner and the next position are kept, and a dog that arrives
+ * holds the monitor of the registry while it takes its position, as {@code Galgo} used to do.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-09
+ */
+public class MonitorRegistroLlegada {
+
+    private int ultimaPosicionAlcanzada = 1;
+    private String ganador = null;
+
+    /**
+     * Registers an arrival with the original protocol: one critical section on the registry that calls
+     * its synchronized getters and setters.
+     *
+     * @param nombre name of the dog
+     * @return the position of the dog, starting at 1
+     */
+    public int registrar(String nombre) {
+        synchronized (this) {
+            int ubicacion = getUltimaPosicionAlcanzada();
+            setUltimaPosicionAlcanzada(ubicacion + 1);
+            if (ubicacion == 1) {
+                setGanador(nombre);
+            }
+            return ubicacion;
+        }
+    }
+
+    public synchronized String getGanador() {
+        return ganador;
+    }
+
+    public synchronized void setGanador(String ganador) {
+        this.ganador = ganador;
+    }
+
+    public synchronized int getUltimaPosicionAlcanzada() {
+        return ultimaPosicionAlcanzada;
+    }
+
+    public synchronized void setUltimaPosicionAlcanzada(int ultimaPosicionAlcanzada) {
+        this.ultimaPosicionAlcanzada = ultimaPosicionAlcanzada;
+    }
+}
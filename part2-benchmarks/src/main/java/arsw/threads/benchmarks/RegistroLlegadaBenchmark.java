@@ -0,0 +1,101 @@
+package arsw.threads.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arsw.threads.RegistroLlegada;
+
+/**
+ * Time for thousands of dogs that finish at the same moment to register their arrival, with the lock-free
+ * {@link RegistroLlegada} or with the original {@link MonitorRegistroLlegada}. Every finisher is a thread
+ * created before the measurement and blocked on a latch, and each invocation releases all of them at once
+ * and waits until every arrival is registered. Each finisher registers {@code arrivals} times, so the
+ * registry sees that many rounds of contention.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-09
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RegistroLlegadaBenchmark {
+
+    @Param({"lock-free", "monitor"})
+    private String registry;
+
+    @Param({"1000", "4000"})
+    private int finishers;
+
+    @Param({"1", "100"})
+    private int arrivals;
+
+    private CountDownLatch start;
+    private CountDownLatch done;
+    private Thread[] threads;
+    private Object winner;
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        final int capacity = finishers * arrivals;
+        final RegistroLlegada lockFree = registry.equals("lock-free") ? new RegistroLlegada(capacity) : null;
+        final MonitorRegistroLlegada monitor = lockFree == null ? new MonitorRegistroLlegada() : null;
+        start = new CountDownLatch(1);
+        done = new CountDownLatch(finishers);
+        threads = new Thread[finishers];
+        for (int i = 0; i < finishers; i++) {
+            final String name = "" + i;
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int a = 0; a < arrivals; a++) {
+                        if (lockFree != null) {
+                            lockFree.registrar(name);
+                        } else {
+                            monitor.registrar(name);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+        winner = lockFree != null ? lockFree : monitor;
+    }
+
+    @Benchmark
+    public Object finish() throws InterruptedException {
+        start.countDown();
+        done.await();
+        return winner instanceof RegistroLlegada ? ((RegistroLlegada) winner).getGanador()
+                : ((MonitorRegistroLlegada) winner).getGanador();
+    }
+
+    @TearDown(Level.Invocation)
+    public void joinFinishers() throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package arsw.threads.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arsw.threads.Torneo;
+
+/**
+ * Races per second of a Monte Carlo {@link Torneo} of the default 17 lanes of 100 steps, with one thread
+ * or one per processor ({@code threads = 0}). The {@code races} counter is the throughput in races per second;
+ * the primary score is tournaments per second.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TorneoBenchmark {
+
+    @Param({"17"})
+    private int lanes;
+
+    @Param({"100"})
+    private int length;
+
+    @Param({"1", "0"})
+    private int threads;
+
+    @Param({"1000000"})
+    private long racesPerTournament;
+
+    private Torneo torneo;
+    private int poolSize;
+
+    /**
+     * Races run, reported by JMH as a rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Races {
+        public long races;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            races = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        torneo = new Torneo(lanes, length, 42);
+        poolSize = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+    }
+
+    @Benchmark
+    public long tournament(Races counter) throws InterruptedException {
+        Torneo.Resultado resultado = torneo.correr(racesPerTournament, poolSize);
+        counter.races += resultado.getCarreras();
+        return resultado.getVictorias(0);
+    }
+}
@@ -3,7 +3,6 @@ package arsw.threads;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
-import java.awt.GridLayout;
 import java.awt.Insets;
 import java.awt.Toolkit;
 import java.awt.event.ActionListener;
@@ -13,15 +12,17 @@ import java.awt.event.WindowEvent;
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
 /**
- * Interfaz de usuario y modelo para un Canodromo
+ * Interfaz de usuario de un Canodromo: muestra una {@link Carrera}, de la que es un observador
  *
  * @author rlopez
  */
-public class Canodromo extends JFrame {
+public class Canodromo extends JFrame implements CarreraListener {
 	private static final long serialVersionUID = 1L;
 
 	/**
@@ -29,6 +30,21 @@ public class Canodromo extends JFrame {
 	 */
 	private Carril[] carril;
 
+	/**
+	 * Pista en la que se dibujan todos los carriles
+	 */
+	private PistaCarrera pista;
+
+	/**
+	 * Carrera que se muestra
+	 */
+	private Carrera carrera;
+
+	/**
+	 * Dibuja la carrera en los carriles a una tasa fija de cuadros por segundo
+	 */
+	private RenderizadorCarrera renderizador;
+
 	private JButton butStart = new JButton("Start");
 	private JButton butStop = new JButton("Stop");
 	private JButton butContinue = new JButton("Continue");
@@ -39,40 +55,37 @@ public class Canodromo extends JFrame {
 	 * @param longPista Longitud de la pista
 	 */
 	public Canodromo(int nCarriles, int longPista) {
+		this(new Carrera(nCarriles, longPista));
+	}
+
+	/**
+	 * Construye la interfaz de una carrera y se registra como su observador
+	 * 
+	 * @param carrera Carrera a mostrar
+	 */
+	public Canodromo(Carrera carrera) {
+		this.carrera = carrera;
+		int nCarriles = carrera.getNumCarriles();
+		int longPista = carrera.getLongitud();
+		carrera.addListener(this);
+		pista = new PistaCarrera(nCarriles, longPista);
 		carril = new Carril[nCarriles];
 		for (int i = 0; i < carril.length; i++) {
-			carril[i] = new Carril(longPista, "" + i);
+			carril[i] = new Carril(pista, i, "" + i);
 		}
 
 		JPanel cont = (JPanel) getContentPane();
 		cont.setLayout(new BorderLayout());
 
-		JPanel panPistas = new JPanel();
-		panPistas.setLayout(new GridLayout(nCarriles, 1));
-
-		JPanel panCarril;
-		BorderLayout bLay;
-		GridLayout gridTrack = new GridLayout(1, longPista);
-		for (int row = 0; row < nCarriles; row++) {
-			bLay = new BorderLayout();
-			panCarril = new JPanel();
-			panCarril.setLayout(bLay);
-			JPanel panTrack = new JPanel();
-			panTrack.setLayout(gridTrack);
-
-			for (int col = 0; col < longPista; col++) {
-				panTrack.add(carril[row].getPaso(col));
-			}
-			panCarril.add(panTrack, BorderLayout.CENTER);
-			panCarril.add(carril[row].getLlegada(), BorderLayout.EAST);
-			panPistas.add(panCarril);
-		}
-
+		JScrollPane panPistas = new JScrollPane(pista);
 		panPistas.setBorder(new EmptyBorder(new Insets(5, 0, 5, 0)));
+		panPistas.getVerticalScrollBar().setUnitIncrement(PistaCarrera.ALTO_CARRIL);
+		panPistas.getHorizontalScrollBar().setUnitIncrement(PistaCarrera.ANCHO_PASO);
+
+		// El reloj del renderizador arranca con la carrera, no con la ventana
+		renderizador = new RenderizadorCarrera(carrera, carril, RenderizadorCarrera.FPS);
 
-		int butWidht = 8;
-		int butHeight = 20;
-		cont.add(panPistas, BorderLayout.NORTH);
+		cont.add(panPistas, BorderLayout.CENTER);
 
 		JPanel butPanel = new JPanel();
 		butPanel.setLayout(new FlowLayout());
@@ -81,10 +94,11 @@ public class Canodromo extends JFrame {
 		butPanel.add(butContinue);
 		cont.add(butPanel, BorderLayout.SOUTH);
 
-		this.setSize(butWidht * longPista, butHeight * nCarriles + 400);
-
 		// Get the size of the screen
 		Dimension dim = Toolkit.getDefaultToolkit().getScreenSize();
+		// Fit the whole track if it fits in the screen, and scroll otherwise
+		Dimension track = pista.getPreferredSize();
+		this.setSize(Math.min(track.width + 40, dim.width), Math.min(track.height + 120, dim.height - 40));
 		// Determine the new location of the window
 		int w = this.getSize().width;
 		int h = this.getSize().height;
@@ -121,10 +135,62 @@ public class Canodromo extends JFrame {
 		return carril[i];
 	}
 
+	public PistaCarrera getPista() {
+		return pista;
+	}
+
 	public int getNumCarriles() {
 		return carril.length;
 	}
 
+	public Carrera getCarrera() {
+		return carrera;
+	}
+
+	@Override
+	public void carreraIniciada() {
+		renderizador.iniciar();
+	}
+
+	/**
+	 * No hace nada: el renderizador lee las posiciones de la carrera en cada cuadro
+	 */
+	@Override
+	public void pasoDado(int c, int paso) {
+	}
+
+	/**
+	 * No hace nada: las llegadas simultaneas pueden notificarse fuera de orden, asi que la clasificacion
+	 * se imprime al terminar la carrera
+	 */
+	@Override
+	public void llegada(int c, int posicion) {
+	}
+
+	@Override
+	public void carreraTerminada(final String ganador, final int total) {
+		try {
+			renderizador.detener();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		System.out.println("Render: " + renderizador.getResumen());
+		for (RegistroLlegada.Llegada llegada : carrera.getRegistro().getClasificacion()) {
+			System.out.println("El galgo " + llegada.getNombre() + " llego en la posicion " + llegada.getPosicion());
+		}
+		// Se llama desde el hilo de la carrera; el dialogo se muestra en el EDT
+		SwingUtilities.invokeLater(new Runnable() {
+			@Override
+			public void run() {
+				winnerDialog(ganador, total);
+			}
+		});
+	}
+
+	public RenderizadorCarrera getRenderizador() {
+		return renderizador;
+	}
+
 	/**
 	 * Asocia una accion con el boton de start
 	 * @param action
@@ -0,0 +1,379 @@
+package arsw.threads;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Modelo de una carrera, independiente de la interfaz grafica: la posicion de cada carril,
+ * el registro de llegadas y la pausa. Se puede correr con un hilo por galgo ({@link #correr(long)})
+ * o por ticks con un pool fijo de hilos ({@link #correrPorTicks(long, int)}). Los cambios se notifican a los {@link CarreraListener}
+ * registrados, de modo que {@link Canodromo} es solo una forma opcional de mostrar la carrera
+ * y se pueden correr carreras de miles de carriles sin crear componentes Swing.
+ * <p>
+ * Los galgos corren libres, sin barreras entre pasos. Cada galgo que corre esta registrado en un
+ * {@link Phaser}, pero solo llega a el cuando se ha pedido una pausa: {@link #pausar()} abre una epoca de
+ * pausa, cada galgo llega en su siguiente punto de pausa y se detiene, y la instantanea se toma cuando el
+ * ultimo llega, asi que {@link #pausar()} devuelve posiciones consistentes en las que ningun galgo se mueve.
+ * Mientras dura la pausa los galgos esperan en un segundo {@link Phaser}, la compuerta, que
+ * {@link #continuar()} abre de una vez para todos sin que tengan que volver a tomar un monitor.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-05
+ */
+public class Carrera {
+
+	/**
+	 * Milisegundos que tarda un galgo en dar un paso, por defecto
+	 */
+	public static final long PASO_MS = 100;
+
+	/**
+	 * Galgos por cada phaser hijo del phaser de los corredores, que tiene un limite de participantes
+	 * y se congestiona si todos los galgos llegan al mismo
+	 */
+	private static final int GALGOS_POR_GRUPO = 256;
+
+	private final int longitud;
+	private final AtomicIntegerArray posiciones;
+	private final RegistroLlegada registro;
+	private final List<CarreraListener> listeners = new CopyOnWriteArrayList<CarreraListener>();
+	private final Object pausa = new Object();
+	private volatile boolean pausada = false;
+
+	/**
+	 * Tiene un participante por galgo que corre. Solo se llega a el durante una epoca de pausa, o al
+	 * retirarse, y avanza cuando todos los que corren se detuvieron: entonces se toma la pausa pedida
+	 */
+	private final Phaser corredores = new Phaser() {
+		@Override
+		protected boolean onAdvance(int fase, int participantes) {
+			if (solicitud != null) {
+				synchronized (pausa) {
+					if (solicitud != null) {
+						detener();
+					}
+				}
+			}
+			// La carrera no termina el phaser aunque se queden sin participantes
+			return false;
+		}
+	};
+	private final Phaser[] grupos;
+
+	/**
+	 * Tiene un solo participante, {@link #continuar()}, y los galgos pausados esperan a que avance
+	 */
+	private final Phaser compuerta = new Phaser(1);
+	private volatile int faseCompuerta;
+	private volatile CountDownLatch solicitud;
+	private long solicitadaNanos;
+	private boolean continuarAlDetener;
+	private int numeroPausas = 0;
+	private volatile Instantanea ultimaPausa;
+
+	/**
+	 * Construye una carrera con todos los galgos en la salida
+	 *
+	 * @param numCarriles Numero de carriles
+	 * @param longitud Numero de pasos de cada carril
+	 */
+	public Carrera(int numCarriles, int longitud) {
+		if (numCarriles < 1 || longitud < 1) {
+			throw new IllegalArgumentException("Se necesita al menos un carril de al menos un paso");
+		}
+		this.longitud = longitud;
+		this.posiciones = new AtomicIntegerArray(numCarriles);
+		this.registro = new RegistroLlegada(numCarriles);
+		this.grupos = new Phaser[(numCarriles + GALGOS_POR_GRUPO - 1) / GALGOS_POR_GRUPO];
+		for (int i = 0; i < grupos.length; i++) {
+			grupos[i] = new Phaser(corredores);
+		}
+	}
+
+	/**
+	 * Registra un observador de la carrera
+	 *
+	 * @param listener
+	 */
+	public void addListener(CarreraListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Corre la carrera con un galgo por carril y espera a que todos lleguen
+	 *
+	 * @param pasoMs Milisegundos que tarda cada paso
+	 * @throws InterruptedException si se interrumpe la espera
+	 */
+	public void correr(long pasoMs) throws InterruptedException {
+		notificarInicio();
+		Galgo[] galgos = new Galgo[getNumCarriles()];
+		for (int i = 0; i < galgos.length; i++) {
+			galgos[i] = new Galgo(this, i, pasoMs);
+			galgos[i].start();
+		}
+		for (Galgo galgo : galgos) {
+			galgo.join();
+		}
+		notificarFin();
+	}
+
+	/**
+	 * Corre la carrera por ticks con un pool fijo de hilos, en lugar de un hilo por galgo,
+	 * y espera a que todos lleguen
+	 *
+	 * @param pasoMs Milisegundos entre dos ticks
+	 * @param hilos Numero de hilos que avanzan a los galgos
+	 * @throws InterruptedException si se interrumpe la espera
+	 */
+	public void correrPorTicks(long pasoMs, int hilos) throws InterruptedException {
+		new PlanificadorTicks(this, hilos, pasoMs).correr();
+	}
+
+	/**
+	 * Notifica a los observadores que la carrera empieza
+	 */
+	void notificarInicio() {
+		for (CarreraListener listener : listeners) {
+			listener.carreraIniciada();
+		}
+	}
+
+	/**
+	 * Notifica a los observadores que todos los galgos llegaron
+	 */
+	void notificarFin() {
+		String ganador = registro.getGanador();
+		int total = registro.getTotal();
+		for (CarreraListener listener : listeners) {
+			listener.carreraTerminada(ganador, total);
+		}
+	}
+
+	/**
+	 * Avanza un paso el galgo de un carril y, si llega al final, registra su llegada
+	 *
+	 * @param carril Numero del carril
+	 * @return true si el galgo llego al final del carril
+	 */
+	public boolean avanzar(int carril) {
+		int paso = posiciones.incrementAndGet(carril);
+		for (CarreraListener listener : listeners) {
+			listener.pasoDado(carril, paso);
+		}
+		if (paso < longitud) {
+			return false;
+		}
+		// El registro no bloquea, asi que con llegadas simultaneas los observadores pueden recibirlas
+		// en otro orden; la posicion de cada una y la clasificacion del registro son exactas
+		int ubicacion = registro.registrar(getNombre(carril));
+		for (CarreraListener listener : listeners) {
+			listener.llegada(carril, ubicacion);
+		}
+		return true;
+	}
+
+	/**
+	 * Registra un participante de la carrera, antes de que empiece a correr
+	 *
+	 * @param carril Carril del participante, que elige su grupo
+	 * @return el phaser en el que el participante se detiene en las pausas
+	 */
+	Phaser participar(int carril) {
+		Phaser grupo = grupos[carril / GALGOS_POR_GRUPO];
+		grupo.register();
+		return grupo;
+	}
+
+	/**
+	 * Retira a un participante que termino de correr, que ya no se detiene en las pausas
+	 *
+	 * @param grupo Phaser devuelto por {@link #participar(int)}
+	 */
+	void retirar(Phaser grupo) {
+		grupo.arriveAndDeregister();
+	}
+
+	/**
+	 * Pausa a todos los galgos en su siguiente punto de pausa y espera a que se detengan.
+	 * Si no hay ninguna carrera corriendo, la pausa se toma de inmediato.
+	 *
+	 * @return las posiciones de todos los galgos cuando el ultimo se detuvo
+	 * @throws InterruptedException si se interrumpe la espera
+	 */
+	public Instantanea pausar() throws InterruptedException {
+		CountDownLatch detenida;
+		synchronized (pausa) {
+			if (pausada) {
+				return ultimaPausa;
+			}
+			continuarAlDetener = false;
+			if (solicitud == null) {
+				solicitadaNanos = System.nanoTime();
+				solicitud = new CountDownLatch(1);
+			}
+			detenida = solicitud;
+			if (corredores.getRegisteredParties() == 0) {
+				detener();
+			}
+		}
+		detenida.await();
+		return ultimaPausa;
+	}
+
+	/**
+	 * Toma la pausa pedida; se llama con el monitor de la pausa y con todos los galgos detenidos
+	 */
+	private void detener() {
+		int[] copia = new int[posiciones.length()];
+		for (int c = 0; c < copia.length; c++) {
+			copia[c] = posiciones.get(c);
+		}
+		ultimaPausa = new Instantanea(++numeroPausas, copia, System.nanoTime() - solicitadaNanos);
+		if (!continuarAlDetener) {
+			faseCompuerta = compuerta.getPhase();
+			pausada = true;
+		}
+		solicitud.countDown();
+		solicitud = null;
+	}
+
+	/**
+	 * Reanuda a todos los galgos pausados a la vez. Si una pausa se pidio pero aun no se ha tomado,
+	 * se toma la instantanea cuando todos se detengan y siguen de inmediato.
+	 */
+	public void continuar() {
+		synchronized (pausa) {
+			if (solicitud != null) {
+				continuarAlDetener = true;
+			}
+			if (pausada) {
+				pausada = false;
+				compuerta.arrive();
+			}
+		}
+	}
+
+	/**
+	 * Punto de pausa de un participante. Si hay una pausa pedida llega al phaser de los corredores y
+	 * espera a que los demas se detengan; luego espera mientras la carrera este pausada.
+	 * Cuando no hay pausas es solo la lectura de dos campos volatiles.
+	 *
+	 * @param grupo Phaser devuelto por {@link #participar(int)}
+	 * @throws InterruptedException si se interrumpe la espera de la compuerta
+	 */
+	void esperarSiPausada(Phaser grupo) throws InterruptedException {
+		if (solicitud != null) {
+			// La pausa no se puede tomar sin este participante, que sigue registrado, asi que la solicitud
+			// leida es la de la epoca en curso. La espera dura a lo sumo un paso de los demas, y es sin
+			// interrupcion porque un participante que ya llego no se puede retirar de la misma epoca
+			grupo.awaitAdvance(grupo.arrive());
+		}
+		if (pausada) {
+			compuerta.awaitAdvanceInterruptibly(faseCompuerta);
+		}
+	}
+
+	/**
+	 * Posiciones de la ultima pausa
+	 *
+	 * @return la instantanea de la ultima pausa, o null si no se ha pausado
+	 */
+	public Instantanea getUltimaPausa() {
+		return ultimaPausa;
+	}
+
+	public boolean isPausada() {
+		return pausada;
+	}
+
+	/**
+	 * Pasos recorridos por el galgo de un carril
+	 *
+	 * @param carril Numero del carril
+	 * @return
+	 */
+	public int getPosicion(int carril) {
+		return posiciones.get(carril);
+	}
+
+	/**
+	 * Nombre del galgo de un carril, que es el numero del carril
+	 *
+	 * @param carril Numero del carril
+	 * @return
+	 */
+	public String getNombre(int carril) {
+		return "" + carril;
+	}
+
+	public int getNumCarriles() {
+		return posiciones.length();
+	}
+
+	public int getLongitud() {
+		return longitud;
+	}
+
+	public RegistroLlegada getRegistro() {
+		return registro;
+	}
+
+	/**
+	 * Posiciones de todos los galgos cuando se tomo una pausa
+	 */
+	public static final class Instantanea {
+		private final int numero;
+		private final int[] posiciones;
+		private final long latenciaNanos;
+
+		Instantanea(int numero, int[] posiciones, long latenciaNanos) {
+			this.numero = numero;
+			this.posiciones = posiciones;
+			this.latenciaNanos = latenciaNanos;
+		}
+
+		/**
+		 * Numero de la pausa en la carrera, empezando en 1
+		 *
+		 * @return
+		 */
+		public int getNumero() {
+			return numero;
+		}
+
+		/**
+		 * Pasos recorridos por el galgo de un carril
+		 *
+		 * @param carril Numero del carril
+		 * @return
+		 */
+		public int getPosicion(int carril) {
+			return posiciones[carril];
+		}
+
+		public int[] getPosiciones() {
+			return posiciones.clone();
+		}
+
+		/**
+		 * Tiempo desde que se pidio la pausa hasta que todos los galgos se detuvieron
+		 *
+		 * @return
+		 */
+		public long getLatenciaNanos() {
+			return latenciaNanos;
+		}
+
+		@Override
+		public String toString() {
+			return "pausa " + numero + " tras " + String.format("%.1f ms", latenciaNanos / 1e6) + ": "
+					+ Arrays.toString(posiciones);
+		}
+	}
+}
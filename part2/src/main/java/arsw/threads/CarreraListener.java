@@ -0,0 +1,42 @@
+package arsw.threads;
+
+/**
+ * Observador de los eventos de una {@link Carrera}. Los metodos se invocan desde los hilos de los galgos,
+ * por lo que una implementacion que actualice una interfaz grafica debe tenerlo en cuenta.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-05
+ */
+public interface CarreraListener {
+
+	/**
+	 * La carrera empezo: los galgos estan por dar su primer paso.
+	 */
+	void carreraIniciada();
+
+	/**
+	 * Un galgo avanzo un paso en su carril.
+	 *
+	 * @param carril Numero del carril
+	 * @param paso Pasos recorridos hasta ahora, de 1 a la longitud de la pista
+	 */
+	void pasoDado(int carril, int paso);
+
+	/**
+	 * Un galgo llego al final de su carril. Con llegadas simultaneas se pueden recibir en otro orden
+	 * que el de las posiciones; {@link RegistroLlegada#getClasificacion()} siempre esta en orden.
+	 *
+	 * @param carril Numero del carril
+	 * @param posicion Posicion de llegada, empezando en 1
+	 */
+	void llegada(int carril, int posicion);
+
+	/**
+	 * Todos los galgos llegaron.
+	 *
+	 * @param ganador Nombre del galgo ganador
+	 * @param total Numero de galgos que llegaron
+	 */
+	void carreraTerminada(String ganador, int total);
+}
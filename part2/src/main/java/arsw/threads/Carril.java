@@ -1,50 +1,36 @@
 package arsw.threads;
 
-import java.awt.Color;
-
-import javax.swing.JButton;
-
 /**
- * Un carril del canodromo
+ * Un carril del canodromo, que se muestra como una fila de una {@link PistaCarrera}
  * 
  * @author rlopez
  */
 public class Carril {
 
-	private Color on = Color.CYAN;
-	private Color off = Color.LIGHT_GRAY;
-	private Color stop = Color.red;
-	private Color start = Color.GREEN;
-
 	/**
-	 * Pasos del carril
+	 * Pista en la que se dibuja el carril
 	 */
-	private JButton[] paso;
+	private PistaCarrera pista;
 
 	/**
-	 * Bandera de llegada del carril
+	 * Fila del carril en la pista
 	 */
-	private JButton llegada;
+	private int numero;
 
 	private String name;
 
 	/**
 	 * Construye un carril
 	 * 
-	 * @param nPasos Numero de pasos del carril
+	 * @param pista Pista en la que se dibuja el carril
+	 * @param numero Fila del carril en la pista
 	 * @param name Nombre del carril
 	 */
-	public Carril(int nPasos, String name) {
-		paso = new JButton[nPasos];
-		JButton bTmp;
-		for (int k = 0; k < nPasos; k++) {
-			bTmp = new JButton();
-			bTmp.setBackground(off);
-			paso[k] = bTmp;
-		}
-		llegada = new JButton(name);
-		llegada.setBackground(start);
+	public Carril(PistaCarrera pista, int numero, String name) {
+		this.pista = pista;
+		this.numero = numero;
 		this.name = name;
+		pista.setMarcador(numero, name);
 	}
 
 	/**
@@ -53,66 +39,59 @@ public class Carril {
 	 * @return
 	 */
 	public int size() {
-		return paso.length;
+		return pista.getLongitud();
 	}
 
 	public String getName() {
-		return llegada.getText();
-	}
-
-	/**
-	 * Retorna el i-esimo paso del carril
-	 * 
-	 * @param i
-	 * @return
-	 */
-	public JButton getPaso(int i) {
-		return paso[i];
+		return pista.getMarcador(numero);
 	}
 
 	/**
-	 * Retorna la bandera de llegada del carril
-	 * @return
-	 */
-	public JButton getLlegada() {
-		return llegada;
-	}
-
-	/**
-	 * Indica que el paso i ha sido utilizado
+	 * Indica que el paso i ha sido utilizado, junto con los anteriores
 	 * @param i
 	 */
 	public void setPasoOn(int i) {
-		paso[i].setText("o");
+		pista.setPosicion(numero, Math.max(pista.getPosicion(numero), i + 1));
 	}
 
 	/**
-	 * Indica que el paso i no ha sido utilizado
+	 * Indica que el paso i no ha sido utilizado, ni los siguientes
 	 * @param i
 	 */
 	public void setPasoOff(int i) {
-		paso[i].setText("");
+		pista.setPosicion(numero, Math.min(pista.getPosicion(numero), i));
 	}
 
 	/**
 	 * Indica que se ha llegado al final del carril
 	 */
 	public void finish() {
-		llegada.setText("!");
+		pista.setMarcador(numero, "!");
 	}
 
 	public void displayPasos(int n) {
-		llegada.setText("" + n);
+		pista.setMarcador(numero, "" + n);
+	}
+
+	/**
+	 * Muestra el avance del galgo hasta un paso: marca los pasos utilizados desde los que ya se
+	 * mostraban, el numero de pasos y, si llego al final, la bandera de llegada
+	 * @param hasta Pasos recorridos
+	 */
+	public void avanzar(int hasta) {
+		pista.setPosicion(numero, hasta);
+		if (hasta == size()) {
+			finish();
+		} else {
+			displayPasos(hasta);
+		}
 	}
 
 	/**
 	 * Reinicia el carril: ningun paso se ha usado, la bandera abajo.
 	 */
 	public void reStart() {
-		for (int k = 0; k < paso.length; k++) {
-			paso[k].setBackground(off);
-		}
-		llegada.setBackground(start);
-		llegada.setText(name);
+		pista.setPosicion(numero, 0);
+		pista.setMarcador(numero, name);
 	}
 }
@@ -1,5 +1,7 @@
 package arsw.threads;
 
+import java.util.concurrent.Phaser;
+
 /**
  * Un galgo que puede correr en un carril
  * 
@@ -7,40 +9,32 @@ package arsw.threads;
  */
 public class Galgo extends Thread {
 
-	private int paso;
-	private Carril carril;
-	RegistroLlegada regl;
-	private static final Object PAUSE_LOCK = new Object();
-	private static volatile boolean paused = false;
-
-	public Galgo(Carril carril, String name, RegistroLlegada reg) {
-		super(name);
+	private Carrera carrera;
+	private int carril;
+	private long pasoMs;
+	private Phaser pausas;
+
+	/**
+	 * Construye un galgo y lo registra en las pausas de la carrera, asi que se debe poner a correr
+	 *
+	 * @param carrera Carrera en la que corre
+	 * @param carril Numero del carril
+	 * @param pasoMs Milisegundos que tarda cada paso
+	 */
+	public Galgo(Carrera carrera, int carril, long pasoMs) {
+		super(carrera.getNombre(carril));
+		this.carrera = carrera;
 		this.carril = carril;
-		paso = 0;
-		this.regl = reg;
+		this.pasoMs = pasoMs;
+		this.pausas = carrera.participar(carril);
 	}
 
 	public void corra() throws InterruptedException {
-		while (paso < carril.size()) {
-			synchronized (PAUSE_LOCK) {
-				while (paused) {
-					PAUSE_LOCK.wait();
-				}
-			}
-			Thread.sleep(100);
-			carril.setPasoOn(paso++);
-			carril.displayPasos(paso);
-			if (paso == carril.size()) {
-				carril.finish();
-				synchronized (regl) {
-					int ubicacion = regl.getUltimaPosicionAlcanzada();
-					regl.setUltimaPosicionAlcanzada(ubicacion + 1);
-					System.out.println("El galgo " + this.getName() + " llego en la posicion " + ubicacion);
-					if (ubicacion == 1) {
-						regl.setGanador(this.getName());
-					}
-				}
-			}
+		boolean llego = false;
+		while (!llego) {
+			carrera.esperarSiPausada(pausas);
+			Thread.sleep(pasoMs);
+			llego = carrera.avanzar(carril);
 		}
 	}
 
@@ -51,18 +45,8 @@ public class Galgo extends Thread {
 			corra();
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
-		}
-
-	}
-
-	public static void pauseRace() {
-		paused = true;
-	}
-
-	public static void continueRace() {
-		synchronized (PAUSE_LOCK) {
-			paused = false;
-			PAUSE_LOCK.notifyAll();
+		} finally {
+			carrera.retirar(pausas);
 		}
 
 	}
@@ -7,13 +7,12 @@ import javax.swing.JButton;
 
 public class MainCanodromo {
 
-    private static Galgo[] galgos;
     private static Canodromo can;
-    private static RegistroLlegada reg = new RegistroLlegada();
+    private static Carrera carrera;
 
     public static void main(String[] args) {
-        can = new Canodromo(17, 100);
-        galgos = new Galgo[can.getNumCarriles()];
+        carrera = new Carrera(17, 100);
+        can = new Canodromo(carrera);
         can.setVisible(true);
 
         // Acción del botón start
@@ -22,28 +21,21 @@ public class MainCanodromo {
 
                     @Override
                     public void actionPerformed(final ActionEvent e) {
-                        // como acción, se crea un nuevo hilo que cree los hilos
-                        // 'galgos', los pone a correr, y luego muestra los resultados.
+                        // como acción, se crea un nuevo hilo que corre la carrera
+                        // (crea los hilos 'galgos', los pone a correr y espera a que lleguen);
+                        // el canodromo muestra los resultados al terminar.
                         // La acción del botón se realiza en un hilo aparte para evitar
                         // bloquear la interfaz gráfica.
                         ((JButton) e.getSource()).setEnabled(false);
                         new Thread() {
                             public void run() {
-                                for (int i = 0; i < can.getNumCarriles(); i++) {
-                                    // crea los hilos 'galgos'
-                                    galgos[i] = new Galgo(can.getCarril(i), "" + i, reg);
-                                    // inicia los hilos
-                                    galgos[i].start();
+                                try {
+                                    carrera.correr(Carrera.PASO_MS);
+                                } catch (InterruptedException ex) {
+                                    Thread.currentThread().interrupt();
+                                    return;
                                 }
-                                for (int i = 0; i < can.getNumCarriles(); i++) {
-                                    try {
-                                        galgos[i].join();
-                                    } catch (InterruptedException ex) {
-                                        Thread.currentThread().interrupt();
-                                    }
-                                }
-                                can.winnerDialog(reg.getGanador(), reg.getUltimaPosicionAlcanzada() - 1);
-                                System.out.println("El ganador fue:" + reg.getGanador());
+                                System.out.println("El ganador fue:" + carrera.getRegistro().getGanador());
                             }
                         }.start();
 
@@ -54,8 +46,18 @@ public class MainCanodromo {
                 new ActionListener() {
                     @Override
                     public void actionPerformed(ActionEvent e) {
-                        Galgo.pauseRace();
-                        System.out.println("Carrera pausada!");
+                        // la pausa espera a que todos los galgos terminen el paso en curso,
+                        // asi que tambien se espera en un hilo aparte
+                        new Thread() {
+                            public void run() {
+                                try {
+                                    Carrera.Instantanea pausa = carrera.pausar();
+                                    System.out.println("Carrera pausada: " + pausa);
+                                } catch (InterruptedException ex) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                        }.start();
                     }
                 });
 
@@ -63,7 +65,7 @@ public class MainCanodromo {
                 new ActionListener() {
                     @Override
                     public void actionPerformed(ActionEvent e) {
-                        Galgo.continueRace();
+                        carrera.continuar();
                         System.out.println("Carrera reanudada!");
                     }
                 });
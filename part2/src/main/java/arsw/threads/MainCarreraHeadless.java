@@ -0,0 +1,62 @@
+package arsw.threads;
+
+import java.util.List;
+
+/**
+ * Corre una carrera sin interfaz grafica, por ejemplo en un servidor, y muestra el podio
+ * segun la clasificacion del registro de llegadas.
+ * Uso: {@code MainCarreraHeadless [carriles] [longitud] [pasoMs] [hilos]}, por defecto 10000 carriles
+ * de 100 pasos de 10 ms con un hilo por galgo; con {@code hilos} mayor que 0 la carrera se corre por ticks
+ * con ese numero de hilos.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-05
+ */
+public class MainCarreraHeadless {
+
+	private static final int PODIO = 3;
+
+	public static void main(String[] args) throws InterruptedException {
+		int carriles = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int longitud = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+		long pasoMs = args.length > 2 ? Long.parseLong(args[2]) : 10;
+		int hilos = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+		final Carrera carrera = new Carrera(carriles, longitud);
+		carrera.addListener(new CarreraListener() {
+			@Override
+			public void carreraIniciada() {
+			}
+
+			@Override
+			public void pasoDado(int carril, int paso) {
+			}
+
+			@Override
+			public void llegada(int carril, int posicion) {
+			}
+
+			@Override
+			public void carreraTerminada(String ganador, int total) {
+				List<RegistroLlegada.Llegada> clasificacion = carrera.getRegistro().getClasificacion();
+				for (RegistroLlegada.Llegada llegada : clasificacion.subList(0, Math.min(PODIO, clasificacion.size()))) {
+					System.out.println("El galgo " + llegada.getNombre() + " llego en la posicion " + llegada.getPosicion());
+				}
+				System.out.println("El ganador fue:" + ganador + " de un total de " + total);
+			}
+		});
+
+		System.out.println("Carrera de " + carriles + " carriles de " + longitud + " pasos de " + pasoMs + " ms, "
+				+ (hilos > 0 ? "por ticks con " + hilos + " hilos" : "con un hilo por galgo"));
+		long inicio = System.currentTimeMillis();
+		if (hilos > 0) {
+			carrera.correrPorTicks(pasoMs, hilos);
+		} else {
+			carrera.correr(pasoMs);
+		}
+		long tiempo = System.currentTimeMillis() - inicio;
+		System.out.println("Tiempo de la carrera: " + tiempo + " ms ("
+				+ (long) carriles * longitud * 1000 / Math.max(1, tiempo) + " pasos/s)");
+	}
+}
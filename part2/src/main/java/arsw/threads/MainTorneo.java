@@ -0,0 +1,44 @@
+package arsw.threads;
+
+/**
+ * Corre un {@link Torneo} de Monte Carlo y muestra, por carril, la probabilidad de ganar,
+ * la posicion promedio y las veces que llego en cada posicion del podio.
+ * Uso: {@code MainTorneo [carreras] [carriles] [longitud] [semilla] [hilos]}, por defecto 10.000.000
+ * carreras de 17 carriles de 100 pasos con la semilla 42 y un hilo por procesador.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-10
+ */
+public class MainTorneo {
+
+	private static final int PODIO = 3;
+
+	public static void main(String[] args) throws InterruptedException {
+		long carreras = args.length > 0 ? Long.parseLong(args[0]) : 10000000L;
+		int carriles = args.length > 1 ? Integer.parseInt(args[1]) : 17;
+		int longitud = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+		long semilla = args.length > 3 ? Long.parseLong(args[3]) : 42;
+		int hilos = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+		System.out.println("Torneo de " + carreras + " carreras de " + carriles + " carriles de " + longitud
+				+ " pasos, semilla " + semilla + ", " + hilos + " hilos");
+		Torneo.Resultado resultado = new Torneo(carriles, longitud, semilla).correr(carreras, hilos);
+
+		StringBuilder titulo = new StringBuilder(String.format("%8s %10s %10s", "carril", "gana", "promedio"));
+		for (int posicion = 1; posicion <= Math.min(PODIO, carriles); posicion++) {
+			titulo.append(String.format(" %12s", "puesto " + posicion));
+		}
+		System.out.println(titulo);
+		for (int c = 0; c < carriles; c++) {
+			StringBuilder fila = new StringBuilder(String.format("%8d %9.3f%% %10.3f", c,
+					100 * resultado.getProbabilidadVictoria(c), resultado.getPosicionPromedio(c)));
+			for (int posicion = 1; posicion <= Math.min(PODIO, carriles); posicion++) {
+				fila.append(String.format(" %12d", resultado.getLlegadas(c, posicion)));
+			}
+			System.out.println(fila);
+		}
+		System.out.printf("Tiempo del torneo: %d ms (%.0f carreras/s)%n", resultado.getNanos() / 1000000,
+				resultado.getCarrerasPorSegundo());
+	}
+}
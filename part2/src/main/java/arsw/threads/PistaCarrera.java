@@ -0,0 +1,199 @@
+package arsw.threads;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+
+import javax.swing.JComponent;
+
+/**
+ * Pista del canodromo dibujada en un solo componente: cada carril es una fila de pasos, pintada a partir
+ * de un arreglo con los pasos recorridos, seguida de la bandera de llegada con su marcador. Reemplaza
+ * los botones que se creaban por cada paso, asi que crear la pista no depende de su tamaño.
+ * <p>
+ * Solo se pinta la parte del clip que pide Swing, con unas pocas figuras por fila y por columna visible,
+ * y cada cambio pide repintar unicamente los pasos y la bandera afectados. Como cualquier componente
+ * Swing, se debe modificar solo desde el hilo de eventos (EDT).
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-08
+ */
+public class PistaCarrera extends JComponent {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Ancho en pixeles de un paso, por defecto
+	 */
+	public static final int ANCHO_PASO = 8;
+
+	/**
+	 * Alto en pixeles de un carril, por defecto
+	 */
+	public static final int ALTO_CARRIL = 20;
+
+	private static final int ANCHO_BANDERA = 48;
+
+	private final Color on = Color.CYAN;
+	private final Color off = Color.LIGHT_GRAY;
+	private final Color start = Color.GREEN;
+	private final Color borde = Color.GRAY;
+
+	private final int longitud;
+	private final int anchoPaso;
+	private final int altoCarril;
+
+	/**
+	 * Pasos recorridos de cada carril
+	 */
+	private final int[] posiciones;
+
+	/**
+	 * Texto de la bandera de llegada de cada carril
+	 */
+	private final String[] marcadores;
+
+	/**
+	 * Construye una pista con pasos y carriles del tamaño por defecto
+	 *
+	 * @param numCarriles Numero de carriles
+	 * @param longitud Numero de pasos de cada carril
+	 */
+	public PistaCarrera(int numCarriles, int longitud) {
+		this(numCarriles, longitud, ANCHO_PASO, ALTO_CARRIL);
+	}
+
+	/**
+	 * Construye una pista con todos los carriles en la salida
+	 *
+	 * @param numCarriles Numero de carriles
+	 * @param longitud Numero de pasos de cada carril
+	 * @param anchoPaso Ancho en pixeles de un paso
+	 * @param altoCarril Alto en pixeles de un carril
+	 */
+	public PistaCarrera(int numCarriles, int longitud, int anchoPaso, int altoCarril) {
+		if (numCarriles < 1 || longitud < 1 || anchoPaso < 1 || altoCarril < 1) {
+			throw new IllegalArgumentException("Se necesita al menos un carril de al menos un paso");
+		}
+		this.longitud = longitud;
+		this.anchoPaso = anchoPaso;
+		this.altoCarril = altoCarril;
+		this.posiciones = new int[numCarriles];
+		this.marcadores = new String[numCarriles];
+		for (int c = 0; c < numCarriles; c++) {
+			marcadores[c] = "" + c;
+		}
+		setOpaque(true);
+		setPreferredSize(new Dimension(longitud * anchoPaso + ANCHO_BANDERA, numCarriles * altoCarril));
+	}
+
+	public int getNumCarriles() {
+		return posiciones.length;
+	}
+
+	public int getLongitud() {
+		return longitud;
+	}
+
+	/**
+	 * Pasos recorridos de un carril
+	 *
+	 * @param carril Numero del carril
+	 * @return
+	 */
+	public int getPosicion(int carril) {
+		return posiciones[carril];
+	}
+
+	/**
+	 * Cambia los pasos recorridos de un carril y repinta solo los pasos que cambiaron
+	 *
+	 * @param carril Numero del carril
+	 * @param posicion Pasos recorridos, entre 0 y la longitud
+	 */
+	public void setPosicion(int carril, int posicion) {
+		if (posicion < 0 || posicion > longitud) {
+			throw new IllegalArgumentException("Posicion fuera de la pista: " + posicion);
+		}
+		int anterior = posiciones[carril];
+		if (anterior == posicion) {
+			return;
+		}
+		posiciones[carril] = posicion;
+		int desde = Math.min(anterior, posicion);
+		int hasta = Math.max(anterior, posicion);
+		repaint(desde * anchoPaso, carril * altoCarril, (hasta - desde) * anchoPaso + 1, altoCarril);
+	}
+
+	public String getMarcador(int carril) {
+		return marcadores[carril];
+	}
+
+	/**
+	 * Cambia el texto de la bandera de llegada de un carril y la repinta
+	 *
+	 * @param carril Numero del carril
+	 * @param marcador Texto de la bandera
+	 */
+	public void setMarcador(int carril, String marcador) {
+		if (marcador.equals(marcadores[carril])) {
+			return;
+		}
+		marcadores[carril] = marcador;
+		repaint(longitud * anchoPaso, carril * altoCarril, ANCHO_BANDERA, altoCarril);
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		Rectangle clip = g.getClipBounds();
+		if (clip == null) {
+			clip = new Rectangle(0, 0, getWidth(), getHeight());
+		}
+		int primera = Math.max(0, clip.y / altoCarril);
+		int ultima = Math.min(posiciones.length - 1, (clip.y + clip.height - 1) / altoCarril);
+		int finPista = longitud * anchoPaso;
+		int primerPaso = Math.max(0, clip.x / anchoPaso);
+		int ultimoPaso = Math.min(longitud - 1, (clip.x + clip.width - 1) / anchoPaso);
+		boolean pintarPasos = primerPaso <= ultimoPaso;
+		boolean pintarBanderas = clip.x + clip.width > finPista;
+		FontMetrics metricas = g.getFontMetrics();
+
+		for (int c = primera; c <= ultima; c++) {
+			int y = c * altoCarril;
+			if (pintarPasos) {
+				// Dos rectangulos por carril: los pasos recorridos y los que faltan
+				int recorridos = Math.max(primerPaso, Math.min(posiciones[c], ultimoPaso + 1));
+				g.setColor(on);
+				g.fillRect(primerPaso * anchoPaso, y, (recorridos - primerPaso) * anchoPaso, altoCarril);
+				g.setColor(off);
+				g.fillRect(recorridos * anchoPaso, y, (ultimoPaso + 1 - recorridos) * anchoPaso, altoCarril);
+			}
+			if (pintarBanderas) {
+				g.setColor(start);
+				g.fillRect(finPista, y, ANCHO_BANDERA, altoCarril);
+				g.setColor(Color.BLACK);
+				g.drawRect(finPista, y, ANCHO_BANDERA - 1, altoCarril - 1);
+				String marcador = marcadores[c];
+				g.drawString(marcador, finPista + (ANCHO_BANDERA - metricas.stringWidth(marcador)) / 2,
+						y + (altoCarril + metricas.getAscent() - metricas.getDescent()) / 2);
+			}
+		}
+
+		// Las divisiones se pintan con una linea por columna y por fila visibles, no por cada paso
+		if (pintarPasos && primera <= ultima && anchoPaso > 2) {
+			g.setColor(borde);
+			int arriba = primera * altoCarril;
+			int abajo = (ultima + 1) * altoCarril - 1;
+			for (int p = primerPaso; p <= ultimoPaso + 1; p++) {
+				g.drawLine(p * anchoPaso, arriba, p * anchoPaso, abajo);
+			}
+			int izquierda = primerPaso * anchoPaso;
+			int derecha = Math.min(finPista, (ultimoPaso + 1) * anchoPaso);
+			for (int c = primera; c <= ultima + 1; c++) {
+				g.drawLine(izquierda, c * altoCarril, derecha, c * altoCarril);
+			}
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package arsw.threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Corre una {@link Carrera} por ticks en lugar de con un hilo por galgo: en cada tick un pool fijo de hilos
+ * avanza un paso a cada galgo que no ha llegado, repartiendo los carriles pendientes entre los hilos.
+ * El numero de hilos no depende del numero de galgos, asi que se pueden correr cientos de miles.
+ * <p>
+ * La llegada se registra igual que con {@link Galgo}, en {@link Carrera#avanzar(int)}, y la pausa se respeta
+ * entre ticks: el planificador se detiene antes del tick siguiente, donde se toma la pausa, y con la
+ * carrera pausada no se da ningun paso hasta que se continue.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-06
+ */
+public class PlanificadorTicks {
+
+	private final Carrera carrera;
+	private final int hilos;
+	private final long pasoNanos;
+
+	/**
+	 * @param carrera Carrera a correr
+	 * @param hilos Numero de hilos que avanzan a los galgos
+	 * @param pasoMs Milisegundos entre dos ticks, o 0 para avanzar tan rapido como se pueda
+	 */
+	public PlanificadorTicks(Carrera carrera, int hilos, long pasoMs) {
+		if (hilos < 1) {
+			throw new IllegalArgumentException("Se necesita al menos un hilo");
+		}
+		this.carrera = carrera;
+		this.hilos = hilos;
+		this.pasoNanos = TimeUnit.MILLISECONDS.toNanos(pasoMs);
+	}
+
+	/**
+	 * Corre la carrera hasta que todos los galgos lleguen y notifica el final a los observadores
+	 *
+	 * @throws InterruptedException si se interrumpe la carrera
+	 */
+	public void correr() throws InterruptedException {
+		// Los galgos que llegan en el mismo tick se registran en este orden, que se baraja
+		// para que el desempate no favorezca siempre a los primeros carriles
+		final int[] pendientes = new int[carrera.getNumCarriles()];
+		for (int i = 0; i < pendientes.length; i++) {
+			int j = RandomGenerator.nextInt(i + 1);
+			pendientes[i] = pendientes[j];
+			pendientes[j] = i;
+		}
+		int n = pendientes.length;
+
+		carrera.notificarInicio();
+		ExecutorService pool = Executors.newFixedThreadPool(hilos, hilosConNombre());
+		// El planificador es el unico participante que se detiene en las pausas de la carrera
+		Phaser pausas = carrera.participar(0);
+		try {
+			long siguiente = System.nanoTime();
+			while (n > 0) {
+				carrera.esperarSiPausada(pausas);
+				siguiente += pasoNanos;
+				long espera = siguiente - System.nanoTime();
+				if (espera > 0) {
+					TimeUnit.NANOSECONDS.sleep(espera);
+				} else if (espera < -pasoNanos) {
+					// Retrasado, por ejemplo tras una pausa: no se recuperan los ticks perdidos
+					siguiente = System.nanoTime();
+				}
+				n = tick(pool, pendientes, n);
+			}
+		} finally {
+			carrera.retirar(pausas);
+			pool.shutdownNow();
+		}
+		carrera.notificarFin();
+	}
+
+	/**
+	 * Avanza un paso a los primeros n carriles pendientes y los compacta, quitando los que llegaron
+	 *
+	 * @return el numero de carriles que siguen pendientes
+	 */
+	private int tick(ExecutorService pool, final int[] pendientes, int n) throws InterruptedException {
+		int porHilo = (n + hilos - 1) / hilos;
+		List<Future<Integer>> tramos = new ArrayList<Future<Integer>>();
+		for (int inicio = 0; inicio < n; inicio += porHilo) {
+			final int desde = inicio;
+			final int hasta = Math.min(n, inicio + porHilo);
+			tramos.add(pool.submit(new Callable<Integer>() {
+				@Override
+				public Integer call() {
+					int quedan = desde;
+					for (int i = desde; i < hasta; i++) {
+						if (!carrera.avanzar(pendientes[i])) {
+							pendientes[quedan++] = pendientes[i];
+						}
+					}
+					return quedan - desde;
+				}
+			}));
+		}
+		int quedan = 0;
+		int inicio = 0;
+		for (Future<Integer> tramo : tramos) {
+			int enTramo;
+			try {
+				enTramo = tramo.get();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException("Fallo al avanzar los galgos", e.getCause());
+			}
+			System.arraycopy(pendientes, inicio, pendientes, quedan, enTramo);
+			quedan += enTramo;
+			inicio += porHilo;
+		}
+		return quedan;
+	}
+
+	private static ThreadFactory hilosConNombre() {
+		final AtomicInteger siguiente = new AtomicInteger(1);
+		return new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread hilo = new Thread(r, "tick-" + siguiente.getAndIncrement());
+				hilo.setDaemon(true);
+				return hilo;
+			}
+		};
+	}
+}
@@ -1,10 +1,10 @@
 package arsw.threads;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class RandomGenerator {
-	private static Random random=new Random(System.currentTimeMillis());
+	// Un generador por hilo, para que los hilos no compitan por la semilla de un Random compartido
 	public static int nextInt(int max){
-		return random.nextInt(max);
+		return ThreadLocalRandom.current().nextInt(max);
 	}
 }
@@ -1,23 +1,137 @@
 package arsw.threads;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Registro de las llegadas de una carrera, sin bloqueos: cada galgo que llega toma su posicion de un
+ * contador atomico y guarda su llegada en un arreglo creado con un espacio por galgo, asi que
+ * registrar una llegada nunca espera a otro galgo y se conserva la clasificacion completa.
+ *
+ * @author rlopez
+ */
 public class RegistroLlegada {
 
-	private int ultimaPosicionAlcanzada = 1;
-	private String ganador = null;
+	/**
+	 * Ultima posicion entregada
+	 */
+	private final AtomicInteger ticket = new AtomicInteger(0);
+
+	/**
+	 * Llegadas por posicion: la posicion p queda en el indice p - 1
+	 */
+	private final AtomicReferenceArray<Llegada> llegadas;
+
+	/**
+	 * Construye un registro vacio
+	 *
+	 * @param capacidad Numero maximo de llegadas, uno por galgo
+	 */
+	public RegistroLlegada(int capacidad) {
+		llegadas = new AtomicReferenceArray<Llegada>(capacidad);
+	}
 
-	public synchronized String getGanador() {
-		return ganador;
+	/**
+	 * Registra la llegada de un galgo en la siguiente posicion
+	 *
+	 * @param nombre Nombre del galgo
+	 * @return Posicion en la que llego, empezando en 1
+	 * @throws IllegalStateException si ya llegaron tantos galgos como la capacidad del registro
+	 */
+	public int registrar(String nombre) {
+		int posicion = ticket.incrementAndGet();
+		if (posicion > llegadas.length()) {
+			throw new IllegalStateException("El registro solo admite " + llegadas.length() + " llegadas");
+		}
+		llegadas.set(posicion - 1, new Llegada(nombre, posicion, System.nanoTime()));
+		return posicion;
 	}
 
-	public synchronized void setGanador(String ganador) {
-		this.ganador = ganador;
+	/**
+	 * Nombre del galgo que llego primero
+	 *
+	 * @return el ganador, o null si aun no ha llegado ninguno
+	 */
+	public String getGanador() {
+		Llegada primera = llegadas.length() == 0 ? null : llegadas.get(0);
+		return primera == null ? null : primera.getNombre();
 	}
 
-	public synchronized int getUltimaPosicionAlcanzada() {
-		return ultimaPosicionAlcanzada;
+	/**
+	 * Posicion que recibira el siguiente galgo que llegue
+	 *
+	 * @return el numero de llegadas mas uno
+	 */
+	public int getUltimaPosicionAlcanzada() {
+		return ticket.get() + 1;
 	}
 
-	public synchronized void setUltimaPosicionAlcanzada(int ultimaPosicionAlcanzada) {
-		this.ultimaPosicionAlcanzada = ultimaPosicionAlcanzada;
+	/**
+	 * Numero de galgos que han llegado
+	 *
+	 * @return
+	 */
+	public int getTotal() {
+		return Math.min(ticket.get(), llegadas.length());
+	}
+
+	/**
+	 * Copia de la clasificacion, que se puede pedir en cualquier momento sin detener a los galgos.
+	 * Contiene las llegadas desde la primera posicion hasta la ultima ya guardada sin huecos: un galgo
+	 * que tomo su posicion pero aun no guardo su llegada aparece en la siguiente copia.
+	 *
+	 * @return las llegadas en orden de posicion
+	 */
+	public List<Llegada> getClasificacion() {
+		int total = getTotal();
+		List<Llegada> clasificacion = new ArrayList<Llegada>(total);
+		for (int i = 0; i < total; i++) {
+			Llegada llegada = llegadas.get(i);
+			if (llegada == null) {
+				break;
+			}
+			clasificacion.add(llegada);
+		}
+		return Collections.unmodifiableList(clasificacion);
+	}
+
+	/**
+	 * Llegada de un galgo
+	 */
+	public static final class Llegada {
+		private final String nombre;
+		private final int posicion;
+		private final long nanos;
+
+		Llegada(String nombre, int posicion, long nanos) {
+			this.nombre = nombre;
+			this.posicion = posicion;
+			this.nanos = nanos;
+		}
+
+		public String getNombre() {
+			return nombre;
+		}
+
+		public int getPosicion() {
+			return posicion;
+		}
+
+		/**
+		 * Momento de la llegada, segun {@link System#nanoTime()}
+		 *
+		 * @return
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		@Override
+		public String toString() {
+			return posicion + ". " + nombre;
+		}
 	}
 }
@@ -0,0 +1,177 @@
+package arsw.threads;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Dibuja una {@link Carrera} en los {@link Carril}es de la {@link PistaCarrera} de un {@link Canodromo}
+ * a una tasa fija de cuadros por segundo. En cada cuadro lee las posiciones del modelo y envia al hilo
+ * de Swing (EDT) un solo {@link SwingUtilities#invokeLater(Runnable)} con los carriles que cambiaron,
+ * asi que el costo de dibujar depende de los cuadros y no del numero de pasos. Si el EDT aun no ha
+ * dibujado el cuadro anterior, el cuadro se omite y sus cambios se acumulan en el siguiente.
+ * <p>
+ * Mide la demora en la cola del EDT: el tiempo desde que se envia un cuadro hasta que el EDT lo dibuja.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-07
+ */
+public class RenderizadorCarrera {
+
+	/**
+	 * Cuadros por segundo por defecto
+	 */
+	public static final int FPS = 60;
+
+	private final Carrera carrera;
+	private final Carril[] carriles;
+	private final long periodoNanos;
+	private final ScheduledExecutorService reloj;
+
+	// Posiciones ya enviadas al EDT; solo las usa el hilo del reloj
+	private final int[] enviadas;
+	private final AtomicBoolean cuadroPendiente = new AtomicBoolean(false);
+
+	private final AtomicLong cuadros = new AtomicLong();
+	private final AtomicLong cuadrosOmitidos = new AtomicLong();
+	private final AtomicLong carrilesDibujados = new AtomicLong();
+	private final AtomicLong demoraTotalNanos = new AtomicLong();
+	private volatile long demoraMaximaNanos = 0;
+
+	/**
+	 * @param carrera Carrera a dibujar
+	 * @param carriles Carriles de la interfaz, uno por carril de la carrera
+	 * @param fps Cuadros por segundo
+	 */
+	public RenderizadorCarrera(Carrera carrera, Carril[] carriles, int fps) {
+		if (fps < 1) {
+			throw new IllegalArgumentException("Se necesita al menos un cuadro por segundo");
+		}
+		this.carrera = carrera;
+		this.carriles = carriles;
+		this.periodoNanos = TimeUnit.SECONDS.toNanos(1) / fps;
+		this.enviadas = new int[carriles.length];
+		this.reloj = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread hilo = new Thread(r, "render-canodromo");
+				hilo.setDaemon(true);
+				return hilo;
+			}
+		});
+	}
+
+	/**
+	 * Empieza a dibujar cuadros
+	 */
+	public void iniciar() {
+		reloj.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				cuadro(false);
+			}
+		}, periodoNanos, periodoNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Deja de dibujar cuadros, despues de enviar un ultimo cuadro con las posiciones finales
+	 *
+	 * @throws InterruptedException si se interrumpe la espera del hilo del reloj
+	 */
+	public void detener() throws InterruptedException {
+		reloj.shutdown();
+		reloj.awaitTermination(1, TimeUnit.SECONDS);
+		cuadro(true);
+	}
+
+	/**
+	 * Lee las posiciones del modelo y envia al EDT los carriles que cambiaron desde el ultimo cuadro enviado
+	 *
+	 * @param forzar si se envia aunque el EDT no haya dibujado el cuadro anterior
+	 */
+	private void cuadro(boolean forzar) {
+		if (!forzar && cuadroPendiente.get()) {
+			cuadrosOmitidos.incrementAndGet();
+			return;
+		}
+		int sucios = 0;
+		int[] carril = new int[enviadas.length];
+		int[] hasta = new int[enviadas.length];
+		for (int c = 0; c < enviadas.length; c++) {
+			int posicion = carrera.getPosicion(c);
+			if (posicion != enviadas[c]) {
+				carril[sucios] = c;
+				hasta[sucios] = posicion;
+				sucios++;
+				enviadas[c] = posicion;
+			}
+		}
+		if (sucios == 0) {
+			return;
+		}
+		cuadroPendiente.set(true);
+		SwingUtilities.invokeLater(new Cuadro(carril, hasta, sucios, System.nanoTime()));
+	}
+
+	/**
+	 * Resumen de las metricas del dibujo
+	 *
+	 * @return cuadros dibujados y omitidos, carriles dibujados y demora en la cola del EDT
+	 */
+	public String getResumen() {
+		long dibujados = cuadros.get();
+		return String.format("%d cuadros (%d omitidos), %d carriles dibujados, demora del EDT promedio %.2f ms, maxima %.2f ms",
+				dibujados, cuadrosOmitidos.get(), carrilesDibujados.get(),
+				dibujados == 0 ? 0.0 : demoraTotalNanos.get() / 1e6 / dibujados, demoraMaximaNanos / 1e6);
+	}
+
+	public long getCuadros() {
+		return cuadros.get();
+	}
+
+	public long getCuadrosOmitidos() {
+		return cuadrosOmitidos.get();
+	}
+
+	public long getDemoraMaximaNanos() {
+		return demoraMaximaNanos;
+	}
+
+	/**
+	 * Cambios de un cuadro, que se aplican en el EDT
+	 */
+	private class Cuadro implements Runnable {
+		private final int[] carril;
+		private final int[] hasta;
+		private final int sucios;
+		private final long enviado;
+
+		Cuadro(int[] carril, int[] hasta, int sucios, long enviado) {
+			this.carril = carril;
+			this.hasta = hasta;
+			this.sucios = sucios;
+			this.enviado = enviado;
+		}
+
+		@Override
+		public void run() {
+			long demora = System.nanoTime() - enviado;
+			for (int i = 0; i < sucios; i++) {
+				carriles[carril[i]].avanzar(hasta[i]);
+			}
+			cuadroPendiente.set(false);
+			cuadros.incrementAndGet();
+			carrilesDibujados.addAndGet(sucios);
+			demoraTotalNanos.addAndGet(demora);
+			if (demora > demoraMaximaNanos) {
+				demoraMaximaNanos = demora;
+			}
+		}
+	}
+}
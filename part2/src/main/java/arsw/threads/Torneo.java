@@ -0,0 +1,318 @@
+package arsw.threads;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Torneo de Monte Carlo: corre muchas carreras como un calculo puro, sin hilos por galgo, sin esperas
+ * y sin interfaz grafica, para estimar la probabilidad de que cada carril gane o llegue en cada posicion.
+ * <p>
+ * En cada carrera cada paso de cada galgo dura un tiempo aleatorio, uniforme entre 0 y 255 unidades
+ * mas una base fija que no cambia el orden de llegada, y los galgos llegan en orden de su tiempo total;
+ * los empates se deciden al azar. Las carreras se reparten en bloques de {@link #BLOQUE} carreras y cada
+ * bloque usa su propio {@link SplittableRandom}, separado en orden de una raiz creada con la semilla, asi
+ * que el resultado solo depende de la semilla y no del numero de hilos ni de que hilo corre cada bloque.
+ * Cada hilo acumula sus conteos en su propio histograma de carriles por posiciones, que se suman al final.
+ *
+ * @author Jesús Pinzón & David Velásquez
+ * @version 1.0
+ * @since 2025-10-10
+ */
+public class Torneo {
+
+	/**
+	 * Carreras de cada bloque, que es la unidad de trabajo de los hilos
+	 */
+	public static final int BLOQUE = 1 << 14;
+
+	/**
+	 * Mayor numero de carriles: el carril se guarda en 16 bits y el histograma crece con su cuadrado
+	 */
+	public static final int MAX_CARRILES = 1024;
+
+	private static final long BYTES_PARES = 0x00FF00FF00FF00FFL;
+	private static final long MITADES = 0x0000FFFF0000FFFFL;
+
+	private final int numCarriles;
+	private final int longitud;
+	private final long semilla;
+
+	/**
+	 * @param numCarriles Numero de carriles de cada carrera
+	 * @param longitud Numero de pasos de cada carril
+	 * @param semilla Semilla de la que se derivan todas las carreras
+	 */
+	public Torneo(int numCarriles, int longitud, long semilla) {
+		if (numCarriles < 1 || numCarriles > MAX_CARRILES || longitud < 1 || longitud > 1 << 22) {
+			throw new IllegalArgumentException("Se necesitan de 1 a " + MAX_CARRILES + " carriles de al menos un paso");
+		}
+		this.numCarriles = numCarriles;
+		this.longitud = longitud;
+		this.semilla = semilla;
+	}
+
+	/**
+	 * Corre las carreras con un pool fijo de hilos y espera a que terminen
+	 *
+	 * @param carreras Numero de carreras
+	 * @param hilos Numero de hilos
+	 * @return los conteos de posiciones de todas las carreras
+	 * @throws InterruptedException si se interrumpe la espera
+	 */
+	public Resultado correr(long carreras, int hilos) throws InterruptedException {
+		if (carreras < 0 || hilos < 1) {
+			throw new IllegalArgumentException("Se necesita al menos un hilo y un numero de carreras no negativo");
+		}
+		final Bloques bloques = new Bloques(carreras);
+		long inicio = System.nanoTime();
+		ExecutorService pool = Executors.newFixedThreadPool(hilos, hilosConNombre());
+		long[] puestos = new long[numCarriles * numCarriles];
+		try {
+			List<Future<long[]>> parciales = new ArrayList<Future<long[]>>();
+			for (int i = 0; i < hilos; i++) {
+				parciales.add(pool.submit(new Callable<long[]>() {
+					@Override
+					public long[] call() {
+						return correrBloques(bloques);
+					}
+				}));
+			}
+			for (Future<long[]> parcial : parciales) {
+				long[] histograma;
+				try {
+					histograma = parcial.get();
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("Fallo al correr las carreras", e.getCause());
+				}
+				for (int i = 0; i < puestos.length; i++) {
+					puestos[i] += histograma[i];
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		return new Resultado(numCarriles, carreras, puestos, System.nanoTime() - inicio);
+	}
+
+	/**
+	 * Corre bloques hasta que no quede ninguno
+	 *
+	 * @return el histograma de carriles por posiciones de los bloques corridos
+	 */
+	private long[] correrBloques(Bloques bloques) {
+		long[] puestos = new long[numCarriles * numCarriles];
+		long[] claves = new long[numCarriles];
+		Bloques.Bloque bloque;
+		while ((bloque = bloques.siguiente()) != null) {
+			for (int i = 0; i < bloque.carreras; i++) {
+				carrera(bloque.random, claves);
+				for (int puesto = 0; puesto < numCarriles; puesto++) {
+					int carril = (int) (claves[puesto] & 0xFFFF);
+					puestos[carril * numCarriles + puesto]++;
+				}
+			}
+		}
+		return puestos;
+	}
+
+	/**
+	 * Corre una carrera y deja los carriles en orden de llegada
+	 *
+	 * @param claves Recibe una clave por carril: el tiempo total, un desempate aleatorio y el carril
+	 */
+	private void carrera(SplittableRandom random, long[] claves) {
+		int palabras = longitud / 8;
+		int resto = longitud % 8;
+		long mascaraResto = (1L << (resto * 8)) - 1;
+		for (int c = 0; c < numCarriles; c++) {
+			// Cada long aleatorio da la duracion de 8 pasos, una por byte, que se suman por pares en
+			// 4 campos de 16 bits; cada campo suma hasta 510 por long, asi que se vacian cada 128 longs
+			long tiempo = 0;
+			long campos = 0;
+			for (int p = 0; p < palabras; p++) {
+				long x = random.nextLong();
+				campos += (x & BYTES_PARES) + ((x >>> 8) & BYTES_PARES);
+				if ((p & 127) == 127) {
+					tiempo += sumaCampos(campos);
+					campos = 0;
+				}
+			}
+			if (resto > 0) {
+				long x = random.nextLong() & mascaraResto;
+				campos += (x & BYTES_PARES) + ((x >>> 8) & BYTES_PARES);
+			}
+			tiempo += sumaCampos(campos);
+			claves[c] = tiempo << 32 | (random.nextInt() & 0xFFFF0000L) | c;
+		}
+		if (numCarriles <= 32) {
+			for (int i = 1; i < numCarriles; i++) {
+				long clave = claves[i];
+				int j = i - 1;
+				while (j >= 0 && claves[j] > clave) {
+					claves[j + 1] = claves[j];
+					j--;
+				}
+				claves[j + 1] = clave;
+			}
+		} else {
+			Arrays.sort(claves);
+		}
+	}
+
+	/**
+	 * Suma los 4 campos de 16 bits sin signo de un long
+	 */
+	private static long sumaCampos(long x) {
+		x = (x & MITADES) + ((x >>> 16) & MITADES);
+		return (x & 0xFFFFFFFFL) + (x >>> 32);
+	}
+
+	private static ThreadFactory hilosConNombre() {
+		final AtomicInteger siguiente = new AtomicInteger(1);
+		return new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread hilo = new Thread(r, "torneo-" + siguiente.getAndIncrement());
+				hilo.setDaemon(true);
+				return hilo;
+			}
+		};
+	}
+
+	/**
+	 * Reparte los bloques de carreras: el i-esimo bloque siempre recibe el i-esimo generador separado de la raiz
+	 */
+	private class Bloques {
+		private final SplittableRandom raiz = new SplittableRandom(semilla);
+		private long pendientes;
+
+		Bloques(long carreras) {
+			this.pendientes = carreras;
+		}
+
+		synchronized Bloque siguiente() {
+			if (pendientes == 0) {
+				return null;
+			}
+			int carreras = (int) Math.min(BLOQUE, pendientes);
+			pendientes -= carreras;
+			return new Bloque(raiz.split(), carreras);
+		}
+
+		private class Bloque {
+			private final SplittableRandom random;
+			private final int carreras;
+
+			Bloque(SplittableRandom random, int carreras) {
+				this.random = random;
+				this.carreras = carreras;
+			}
+		}
+	}
+
+	/**
+	 * Conteos de las posiciones de llegada de cada carril en todas las carreras de un torneo
+	 */
+	public static final class Resultado {
+		private final int numCarriles;
+		private final long carreras;
+		private final long[] puestos;
+		private final long nanos;
+
+		Resultado(int numCarriles, long carreras, long[] puestos, long nanos) {
+			this.numCarriles = numCarriles;
+			this.carreras = carreras;
+			this.puestos = puestos;
+			this.nanos = nanos;
+		}
+
+		public long getCarreras() {
+			return carreras;
+		}
+
+		public int getNumCarriles() {
+			return numCarriles;
+		}
+
+		/**
+		 * Veces que un carril llego en una posicion
+		 *
+		 * @param carril Numero del carril
+		 * @param posicion Posicion de llegada, empezando en 1
+		 * @return
+		 */
+		public long getLlegadas(int carril, int posicion) {
+			return puestos[carril * numCarriles + posicion - 1];
+		}
+
+		/**
+		 * Veces que un carril gano
+		 *
+		 * @param carril Numero del carril
+		 * @return
+		 */
+		public long getVictorias(int carril) {
+			return getLlegadas(carril, 1);
+		}
+
+		/**
+		 * Fraccion de las carreras que gano un carril
+		 *
+		 * @param carril Numero del carril
+		 * @return
+		 */
+		public double getProbabilidadVictoria(int carril) {
+			return carreras == 0 ? 0 : (double) getVictorias(carril) / carreras;
+		}
+
+		/**
+		 * Posicion promedio en la que llego un carril
+		 *
+		 * @param carril Numero del carril
+		 * @return
+		 */
+		public double getPosicionPromedio(int carril) {
+			double suma = 0;
+			for (int posicion = 1; posicion <= numCarriles; posicion++) {
+				suma += (double) posicion * getLlegadas(carril, posicion);
+			}
+			return carreras == 0 ? 0 : suma / carreras;
+		}
+
+		/**
+		 * Tiempo que tardo el torneo
+		 *
+		 * @return
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		public double getCarrerasPorSegundo() {
+			return carreras / (Math.max(1, nanos) / 1e9);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Resultado)) {
+				return false;
+			}
+			Resultado otro = (Resultado) obj;
+			return carreras == otro.carreras && Arrays.equals(puestos, otro.puestos);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(puestos);
+		}
+	}
+}